@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+/**
+ * Result of {@link ScriptBundleCompiler} for a method, a statement or an argument: JavaScript
+ * expression if it can run in the browser, otherwise the reason why generated Java code is kept.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+final class CompiledScript {
+
+  private final String script;
+  private final String reason;
+
+  private CompiledScript(String script, String reason) {
+    this.script = script;
+    this.reason = reason;
+  }
+
+  static CompiledScript of(String script) {
+    return new CompiledScript(script, null);
+  }
+
+  static CompiledScript ineligible(String reason) {
+    return new CompiledScript(null, reason);
+  }
+
+  boolean isEligible() {
+    return script != null;
+  }
+
+  String getScript() {
+    return script;
+  }
+
+  /** reason why the method is not compiled, null if it is eligible */
+  String getReason() {
+    return reason;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Path from the page object root to an element declared in JSON spec, every step is a CSS selector
+ * applied either inside the light DOM or inside the shadow root of the previous element
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+final class ElementPath {
+
+  private final List<Step> steps;
+  private final boolean returnAll;
+  private final boolean nullable;
+  private final boolean basic;
+  private final boolean dynamic;
+
+  ElementPath(
+      List<Step> steps, boolean returnAll, boolean nullable, boolean basic, boolean dynamic) {
+    this.steps = steps;
+    this.returnAll = returnAll;
+    this.nullable = nullable;
+    this.basic = basic;
+    this.dynamic = dynamic;
+  }
+
+  boolean isReturnAll() {
+    return returnAll;
+  }
+
+  boolean isBasic() {
+    return basic;
+  }
+
+  /**
+   * selector has parameters, is missing (container) or element is nested inside a list
+   *
+   * @return true if path can't be resolved by a static script
+   */
+  boolean isDynamic() {
+    return dynamic;
+  }
+
+  String toScript() {
+    return toScript(nullable);
+  }
+
+  /** script that returns null for absent element instead of throwing, for presence checks */
+  String toOptionalScript() {
+    return toScript(true);
+  }
+
+  private String toScript(boolean nullable) {
+    String path = steps.stream().map(Step::toScript).collect(Collectors.joining(",", "[", "]"));
+    return String.format("resolve(%s, %b, %b)", path, returnAll, nullable);
+  }
+
+  static final class Step {
+
+    private final String css;
+    private final boolean shadow;
+
+    Step(String css, boolean shadow) {
+      this.css = css;
+      this.shadow = shadow;
+    }
+
+    String toScript() {
+      String escaped = css.replace("\\", "\\\\").replace("'", "\\'");
+      return String.format("{css:'%s',shadow:%b}", escaped, shadow);
+    }
+  }
+}
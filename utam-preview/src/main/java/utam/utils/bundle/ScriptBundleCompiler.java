@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import utam.utils.spec.SpecReader;
+import utam.utils.spec.SpecVisitor;
+
+/**
+ * Opt-in step of page objects generation: compiles eligible compose methods from JSON specs into
+ * JavaScript bundles that are executed in a single round trip with {@link ScriptBundles}. Method is
+ * eligible if every statement applies getText, getAttribute, containsElement or isPresent to a
+ * basic element (or root) with a static CSS selector. Other methods are reported with the reason
+ * and keep using generated Java code: actions such as setText or click that change the page,
+ * waitFor that polls between round trips, and chains that return page objects instead of values.
+ * For example "searchAndWaitForResponse" of wireGetObjectInfo types, clicks and waits, and
+ * "getComponent" of homePage chains into a custom component, so neither is compiled, while
+ * "getContent" of wireGetObjectInfo is.
+ *
+ * <p>Bundle for method "getContent" in "spec/force-app/wireGetObjectInfo.utam.json" is written to
+ * "bundles/force-app/wireGetObjectInfo/getContent.js" in the output directory.
+ *
+ * <p>Specs are streamed with {@link SpecReader}, only selectors and flags of elements are kept
+ * until methods of the spec are compiled.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ScriptBundleCompiler {
+
+  static final String SPEC_SUFFIX = ".utam.json";
+  // first statement of bundles of page objects without root selector, they need the root element
+  static final String NO_ROOT_SELECTOR = "var ROOT_SELECTOR = null;";
+  private static final List<String> BASIC_TYPES =
+      Arrays.asList("actionable", "clickable", "editable", "draggable", "touchable");
+  // element actions that change the page, a read-only script can't replace them
+  private static final List<String> PAGE_ACTIONS =
+      Arrays.asList(
+          "click", "clear", "clearAndType", "setText", "press", "focus", "blur", "moveTo",
+          "scrollToCenter", "scrollToTop", "dragAndDrop", "flick");
+
+  // shared by all bundles: resolves element path from the root, see ElementPath
+  private static final String HEADER =
+      "var args = arguments;"
+          + "var root = args[0];"
+          + "if (!root && ROOT_SELECTOR) { root = document.querySelector(ROOT_SELECTOR); }"
+          + "if (!root) { throw new Error('utam-bundle: root element not found'); }"
+          + "function resolve(path, all, nullable) {"
+          + "  var scope = root;"
+          + "  for (var i = 0; i < path.length; i++) {"
+          + "    var container = path[i].shadow ? scope.shadowRoot : scope;"
+          + "    if (!container) { scope = null; break; }"
+          + "    if (all && i === path.length - 1) {"
+          + "      return Array.prototype.slice.call(container.querySelectorAll(path[i].css));"
+          + "    }"
+          + "    scope = container.querySelector(path[i].css);"
+          + "    if (!scope) { break; }"
+          + "  }"
+          + "  if (!scope && !nullable) {"
+          + "    throw new Error('utam-bundle: element not found ' + JSON.stringify(path));"
+          + "  }"
+          + "  return scope;"
+          + "}";
+
+  private final SpecReader reader = new SpecReader();
+  private final Path specRoot;
+  private final Path outputDirectory;
+  private final List<String> fallbacks = new ArrayList<>();
+
+  public ScriptBundleCompiler(Path specRoot, Path outputDirectory) {
+    this.specRoot = specRoot;
+    this.outputDirectory = outputDirectory;
+  }
+
+  /**
+   * entry point for the build
+   *
+   * @param args path to the specs root and output directory
+   * @throws IOException if specs can't be read or bundles written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException(
+          "Usage: ScriptBundleCompiler <specs root directory> <output directory>");
+    }
+    ScriptBundleCompiler compiler =
+        new ScriptBundleCompiler(Paths.get(args[0]), Paths.get(args[1]));
+    List<String> bundles = compiler.compile();
+    System.out.println(
+        String.format(
+            "Generated %d script bundles, %d methods use generated code",
+            bundles.size(), compiler.getFallbacks().size()));
+    compiler.getFallbacks().forEach(fallback -> System.out.println("  fallback: " + fallback));
+  }
+
+  private static String quote(String value) {
+    return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+  }
+
+  /**
+   * methods that were not compiled, with a reason
+   *
+   * @return list of messages
+   */
+  public List<String> getFallbacks() {
+    return fallbacks;
+  }
+
+  /**
+   * compile all specs under the root
+   *
+   * @return names of generated bundles
+   * @throws IOException if specs can't be read or bundles written
+   */
+  public List<String> compile() throws IOException {
+    List<Path> specs;
+    try (Stream<Path> files = Files.walk(specRoot)) {
+      specs =
+          files
+              .filter(path -> path.getFileName().toString().endsWith(SPEC_SUFFIX))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    List<String> bundles = new ArrayList<>();
+    for (Path spec : specs) {
+      bundles.addAll(compile(spec));
+    }
+    return bundles;
+  }
+
+  private List<String> compile(Path spec) throws IOException {
+    String relative = specRoot.relativize(spec).toString().replace('\\', '/');
+    String pageObjectName = relative.substring(0, relative.length() - SPEC_SUFFIX.length());
+    SpecCollector collector = new SpecCollector();
+    reader.read(spec, collector);
+    Map<String, ElementPath> elements = new HashMap<>();
+    collectElements(collector.getElements(1), 0, new ArrayList<>(), false, elements);
+    String rootSelector = collector.isRoot ? collector.rootSelector : null;
+    List<String> bundles = new ArrayList<>();
+    for (JsonNode method : collector.methods) {
+      String bundleName = pageObjectName + "/" + method.path("name").asText();
+      CompiledScript compiled = compileMethod(method, elements, rootSelector);
+      if (!compiled.isEligible()) {
+        fallbacks.add(bundleName + ": " + compiled.getReason());
+        continue;
+      }
+      Path output = outputDirectory.resolve("bundles").resolve(bundleName + ".js");
+      Files.createDirectories(output.getParent());
+      Files.write(output, compiled.getScript().getBytes(StandardCharsets.UTF_8));
+      bundles.add(bundleName);
+    }
+    return bundles;
+  }
+
+  private void collectElements(
+      List<SpecElement> children,
+      int parentShadowDepth,
+      List<ElementPath.Step> parentPath,
+      boolean parentDynamic,
+      Map<String, ElementPath> elements) {
+    for (SpecElement element : children) {
+      List<ElementPath.Step> path = new ArrayList<>(parentPath);
+      // only one shadow boundary can be between an element and its parent
+      path.add(new ElementPath.Step(element.css, element.shadowDepth > parentShadowDepth));
+      boolean dynamic = parentDynamic || element.dynamic;
+      ElementPath elementPath =
+          new ElementPath(path, element.returnsAll, element.nullable, element.basic, dynamic);
+      elements.put(element.name, elementPath);
+      // elements nested inside a list can't be resolved to a single scope
+      collectElements(
+          element.children,
+          element.shadowDepth,
+          path,
+          dynamic || element.returnsAll,
+          elements);
+    }
+  }
+
+  private static boolean isBasic(JsonNode type) {
+    if (type.isMissingNode()) {
+      return true;
+    }
+    if (type.isArray()) {
+      for (JsonNode basicType : type) {
+        if (!BASIC_TYPES.contains(basicType.asText())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return BASIC_TYPES.contains(type.asText());
+  }
+
+  CompiledScript compileMethod(
+      JsonNode method, Map<String, ElementPath> elements, String rootSelector) {
+    JsonNode compose = method.path("compose");
+    if (compose.size() == 0) {
+      return CompiledScript.ineligible("no compose statements");
+    }
+    StringBuilder script =
+        new StringBuilder(
+                rootSelector == null
+                    ? NO_ROOT_SELECTOR
+                    : "var ROOT_SELECTOR = " + quote(rootSelector) + ";")
+            .append(HEADER)
+            .append("var result = null;");
+    // same order as parameters of the generated method: declared args, otherwise order of use
+    List<String> parameters = new ArrayList<>();
+    method.path("args").forEach(arg -> parameters.add(arg.path("name").asText()));
+    boolean declared = !parameters.isEmpty();
+    for (JsonNode statement : compose) {
+      CompiledScript compiled = compileStatement(statement, elements, parameters, declared);
+      if (!compiled.isEligible()) {
+        return compiled;
+      }
+      script.append("result = ").append(compiled.getScript()).append(";");
+    }
+    return CompiledScript.of(script.append("return result;").toString());
+  }
+
+  private CompiledScript compileStatement(
+      JsonNode statement,
+      Map<String, ElementPath> elements,
+      List<String> parameters,
+      boolean declared) {
+    if (statement.path("chain").asBoolean()) {
+      return CompiledScript.ineligible("chain returns a page object, script returns only values");
+    }
+    if (statement.has("matcher")) {
+      return CompiledScript.ineligible("matcher is not supported");
+    }
+    String elementName = statement.path("element").asText("root");
+    String apply = statement.path("apply").asText("");
+    if (PAGE_ACTIONS.contains(apply)) {
+      return CompiledScript.ineligible(
+          String.format("action '%s' changes the page, only reads are compiled", apply));
+    }
+    if ("waitFor".equals(apply)) {
+      return CompiledScript.ineligible("waitFor polls between round trips");
+    }
+    final String target;
+    final ElementPath path;
+    if ("root".equals(elementName)) {
+      target = "root";
+      path = null;
+    } else {
+      path = elements.get(elementName);
+      if (path == null || !path.isBasic() || path.isDynamic()) {
+        return CompiledScript.ineligible(
+            String.format(
+                "element '%s' is a custom component or has dynamic selector", elementName));
+      }
+      target = path.toScript();
+    }
+    JsonNode args = statement.path("args");
+    switch (apply) {
+      case "getText":
+        return map(path, target, "(e.innerText || '').trim()");
+      case "getAttribute":
+        CompiledScript name = compileArgument(args.path(0), parameters, declared);
+        if (!name.isEligible()) {
+          return name;
+        }
+        return map(path, target, "e.getAttribute(" + name.getScript() + ")");
+      case "isPresent":
+        if (path == null) {
+          return CompiledScript.of("root != null");
+        }
+        // absent element is not an error here, even if it is not nullable in the spec
+        String optional = path.toOptionalScript();
+        return CompiledScript.of(
+            path.isReturnAll() ? "(" + optional + " || []).length > 0" : optional + " != null");
+      case "containsElement":
+        String css = args.path(0).path("value").path("css").asText(null);
+        if (css == null || args.path(0).path("value").has("args")) {
+          return CompiledScript.ineligible("containsElement needs static CSS locator");
+        }
+        String container = args.path(1).path("value").asBoolean() ? "e.shadowRoot" : "e";
+        return map(
+            path,
+            target,
+            String.format("!!(%s && %s.querySelector(%s))", container, container, quote(css)));
+      default:
+        return CompiledScript.ineligible(String.format("action '%s' is not supported", apply));
+    }
+  }
+
+  private static CompiledScript map(ElementPath path, String target, String expression) {
+    String function = "function(e) { return e == null ? null : " + expression + "; }";
+    if (path != null && path.isReturnAll()) {
+      return CompiledScript.of(target + ".map(" + function + ")");
+    }
+    return CompiledScript.of("(" + function + ")(" + target + ")");
+  }
+
+  private static CompiledScript compileArgument(
+      JsonNode arg, List<String> parameters, boolean declared) {
+    if (arg.has("value")) {
+      return CompiledScript.of(quote(arg.path("value").asText()));
+    }
+    if (arg.has("name") && "string".equals(arg.path("type").asText())) {
+      // method parameters follow root element in script arguments
+      String name = arg.path("name").asText();
+      if (!parameters.contains(name)) {
+        if (declared) {
+          return CompiledScript.ineligible(
+              String.format("parameter '%s' is not in method args", name));
+        }
+        parameters.add(name);
+      }
+      return CompiledScript.of("args[" + (parameters.indexOf(name) + 1) + "]");
+    }
+    return CompiledScript.ineligible("argument is not a literal or string parameter");
+  }
+
+  /** element of a spec with its nested elements, only properties used by bundles are kept */
+  private static final class SpecElement {
+
+    private final String name;
+    private final String css;
+    private final boolean returnsAll;
+    private final boolean nullable;
+    private final boolean basic;
+    private final boolean dynamic;
+    private final int shadowDepth;
+    private final List<SpecElement> children;
+
+    SpecElement(JsonNode properties, int shadowDepth, List<SpecElement> children) {
+      JsonNode selector = properties.path("selector");
+      this.name = properties.path("name").asText();
+      this.css = selector.path("css").asText(null);
+      this.returnsAll = selector.path("returnAll").asBoolean();
+      this.nullable = properties.path("nullable").asBoolean();
+      this.basic = isBasic(properties.path("type"));
+      this.dynamic = selector.has("args") || !selector.has("css");
+      this.shadowDepth = shadowDepth;
+      this.children = children;
+    }
+  }
+
+  /**
+   * collects root selector, methods and elements of one spec. Reader sends an element after its
+   * nested elements, so elements wait at their depth until the parent one level up takes them.
+   */
+  private static final class SpecCollector implements SpecVisitor {
+
+    private final List<List<SpecElement>> pendingByDepth = new ArrayList<>();
+    private final List<JsonNode> methods = new ArrayList<>();
+    private boolean isRoot;
+    private String rootSelector;
+
+    @Override
+    public void rootProperty(String name, JsonNode value) {
+      if ("root".equals(name)) {
+        isRoot = value.asBoolean();
+      } else if ("selector".equals(name)) {
+        rootSelector = value.path("css").asText(null);
+      }
+    }
+
+    @Override
+    public void element(JsonNode properties, int depth, int shadowDepth) {
+      List<SpecElement> children = new ArrayList<>(getElements(depth + 1));
+      getElements(depth + 1).clear();
+      getElements(depth).add(new SpecElement(properties, shadowDepth, children));
+    }
+
+    @Override
+    public void method(JsonNode method) {
+      methods.add(method);
+    }
+
+    // elements that are not yet taken by their parent, at depth 1 they are children of the root
+    List<SpecElement> getElements(int depth) {
+      while (pendingByDepth.size() <= depth) {
+        pendingByDepth.add(new ArrayList<>());
+      }
+      return pendingByDepth.get(depth);
+    }
+  }
+}
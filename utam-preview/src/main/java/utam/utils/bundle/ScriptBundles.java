@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Executes script bundles generated by {@link ScriptBundleCompiler}. If a bundle was not generated
+ * (build without "script-bundles" profile or method is not eligible) or the script fails, for
+ * example because element is not rendered yet, the page object method passed as a fallback is
+ * called instead, so result is always same as without bundles.
+ *
+ * <p>Page object without root selector, such as a component found inside another page object,
+ * is resolved from its root element, bundle can't find it in the document. Example:
+ * ScriptBundles.call(driver, RootElements.of(wireInfo), "force-app/wireGetObjectInfo/getContent",
+ * wireInfo::getContent)
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class ScriptBundles {
+
+  private static final String RESOURCES_ROOT = "/bundles/";
+  private static final Map<String, Optional<String>> SCRIPTS = new ConcurrentHashMap<>();
+
+  private ScriptBundles() {}
+
+  static Optional<String> getScript(String bundleName) {
+    return SCRIPTS.computeIfAbsent(
+        bundleName,
+        name -> {
+          try (InputStream stream =
+              ScriptBundles.class.getResourceAsStream(RESOURCES_ROOT + name + ".js")) {
+            if (stream == null) {
+              return Optional.empty();
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            stream.transferTo(content);
+            return Optional.of(content.toString(StandardCharsets.UTF_8));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  /**
+   * get bundle and check that it can find its root
+   *
+   * @param bundleName name of the bundle
+   * @param root root element passed by the caller
+   * @return script or empty if bundle is not available
+   * @throws IllegalArgumentException if root is null and page object has no root selector
+   */
+  static Optional<String> getScript(String bundleName, WebElement root) {
+    Optional<String> script = getScript(bundleName);
+    if (root == null
+        && script.isPresent()
+        && script.get().startsWith(ScriptBundleCompiler.NO_ROOT_SELECTOR)) {
+      // bundle would always fail and fall back to the page object method
+      throw new IllegalArgumentException(
+          String.format(
+              "Bundle '%s' is for a page object without root selector, pass its root element",
+              bundleName));
+    }
+    return script;
+  }
+
+  /**
+   * check if bundle was generated for a method
+   *
+   * @param bundleName name of the bundle: spec path relative to specs root without extension and
+   *     method name, for example "portal/utamDevHome/getContent"
+   * @return true if bundle is available on the classpath
+   */
+  public static boolean isAvailable(String bundleName) {
+    return getScript(bundleName).isPresent();
+  }
+
+  /**
+   * execute bundle in one round trip or call page object method if bundle is not available
+   *
+   * @param driver driver instance
+   * @param root root element of the page object, can be null for root page objects with selector
+   * @param bundleName name of the bundle
+   * @param fallback page object method to call if bundle is not available or failed
+   * @param args method parameters in the same order as in the page object method
+   * @param <T> return type of the method
+   * @return result of the method
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T call(
+      WebDriver driver,
+      WebElement root,
+      String bundleName,
+      Supplier<T> fallback,
+      Object... args) {
+    Optional<String> script = getScript(bundleName, root);
+    if (!script.isPresent()) {
+      return fallback.get();
+    }
+    Object[] scriptArgs = new Object[args.length + 1];
+    scriptArgs[0] = root;
+    System.arraycopy(args, 0, scriptArgs, 1, args.length);
+    try {
+      return (T) ((JavascriptExecutor) driver).executeScript(script.get(), scriptArgs);
+    } catch (WebDriverException e) {
+      return fallback.get();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Checks of large text returned by a page object method, for example JSON rendered by
+ * wireGetObjectInfo, evaluated inside the browser. Script bundle of the text getter is run
+ * together with the check and only the result is returned, so an assertion costs a constant-size
+ * round trip instead of transferring the whole text. Without a bundle the page object method is
+ * called and the check is done in Java, same as {@link ScriptBundles}.
+ *
+ * <p>Example: TextQueries.containsText(driver, RootElements.of(wireInfo),
+ * "force-app/wireGetObjectInfo/getContent", wireInfo::getContent, "\"apiName\": \"Contact\"")
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class TextQueries {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  // bundle name to query script, built once per bundle
+  private static final Map<String, String> QUERY_SCRIPTS = new ConcurrentHashMap<>();
+  private static final Pattern JSON_PATH_STEP = Pattern.compile("[^.\\[\\]]+");
+  // bundle is put between prefix and suffix as it is, no format pattern to escape
+  private static final String QUERY_PREFIX = "var text = (function() { ";
+  private static final String QUERY_SUFFIX =
+      " }).apply(null,"
+          + " Array.prototype.slice.call(arguments, 0, arguments.length - 2));"
+          + "var query = arguments[arguments.length - 1];"
+          + "if (text == null) { return null; }"
+          + "switch (arguments[arguments.length - 2]) {"
+          + "  case 'contains': return text.indexOf(query) >= 0;"
+          + "  case 'regex': return new RegExp(query).test(text);"
+          + "  default:"
+          + "    var value = JSON.parse(text);"
+          + "    var steps = query.match(/[^.\\[\\]]+/g) || [];"
+          + "    for (var i = 0; i < steps.length && value != null; i++) {"
+          + "      value = value[steps[i]];"
+          + "    }"
+          + "    return value == null ? null : JSON.stringify(value);"
+          + "}";
+
+  private TextQueries() {}
+
+  /**
+   * check if text of the page object method contains the string
+   *
+   * @param driver driver instance
+   * @param root root element of the page object, can be null for root page objects with selector
+   * @param bundleName name of the bundle of the text getter
+   * @param getter page object method that returns the text
+   * @param text string to find
+   * @return true if text is found, false if it is not found or element is absent
+   */
+  public static boolean containsText(
+      WebDriver driver, WebElement root, String bundleName, Supplier<String> getter, String text) {
+    Object result =
+        query(driver, root, bundleName, "contains", text, () -> contains(getter.get(), text));
+    return Boolean.TRUE.equals(result);
+  }
+
+  /**
+   * check if text of the page object method has a match of the regular expression; syntax should
+   * be supported both by JavaScript and Java, for example no lookbehind or possessive quantifiers
+   *
+   * @param driver driver instance
+   * @param root root element of the page object, can be null for root page objects with selector
+   * @param bundleName name of the bundle of the text getter
+   * @param getter page object method that returns the text
+   * @param regex regular expression to find
+   * @return true if a match is found
+   */
+  public static boolean matchesRegex(
+      WebDriver driver, WebElement root, String bundleName, Supplier<String> getter, String regex) {
+    Object result =
+        query(driver, root, bundleName, "regex", regex, () -> find(getter.get(), regex));
+    return Boolean.TRUE.equals(result);
+  }
+
+  /**
+   * parse text of the page object method as JSON and get value at the path
+   *
+   * @param driver driver instance
+   * @param root root element of the page object, can be null for root page objects with selector
+   * @param bundleName name of the bundle of the text getter
+   * @param getter page object method that returns the text
+   * @param jsonPath property names and array indexes, for example "fields.Name.label" or
+   *     "childRelationships[0].field"
+   * @return value as compact JSON, for example "\"Contact\"" for a string, or null if absent
+   */
+  public static String extractJson(
+      WebDriver driver,
+      WebElement root,
+      String bundleName,
+      Supplier<String> getter,
+      String jsonPath) {
+    Object result =
+        query(driver, root, bundleName, "json", jsonPath, () -> extract(getter.get(), jsonPath));
+    return (String) result;
+  }
+
+  private static Object query(
+      WebDriver driver,
+      WebElement root,
+      String bundleName,
+      String kind,
+      String query,
+      Supplier<Object> fallback) {
+    Optional<String> script = ScriptBundles.getScript(bundleName, root);
+    if (!script.isPresent()) {
+      return fallback.get();
+    }
+    try {
+      String queryScript =
+          QUERY_SCRIPTS.computeIfAbsent(
+              bundleName, name -> QUERY_PREFIX + script.get() + QUERY_SUFFIX);
+      return ((JavascriptExecutor) driver).executeScript(queryScript, root, kind, query);
+    } catch (WebDriverException e) {
+      return fallback.get();
+    }
+  }
+
+  private static Boolean contains(String text, String query) {
+    return text != null && text.contains(query);
+  }
+
+  private static Boolean find(String text, String regex) {
+    return text != null && Pattern.compile(regex).matcher(text).find();
+  }
+
+  static String extract(String text, String jsonPath) {
+    if (text == null) {
+      return null;
+    }
+    try {
+      JsonNode value = MAPPER.readTree(text);
+      Matcher step = JSON_PATH_STEP.matcher(jsonPath);
+      while (step.find() && value != null) {
+        String name = step.group();
+        value =
+            value.isArray() && name.chars().allMatch(Character::isDigit)
+                ? value.get(Integer.parseInt(name))
+                : value.get(name);
+      }
+      return value == null || value.isNull() ? null : MAPPER.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Text is not valid JSON: " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.graph;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import utam.utils.spec.SpecReader;
+
+/**
+ * Graph of page object types built from "type" references in JSON specs: element types, return
+ * types, implemented interfaces. Types of specs in this module are resolved with namespaces from
+ * compiler config, for example "spec/portal/dummy.utam.json" is "utam-portal/pageObjects/dummy".
+ * Types without a spec, for example "utam-lightning/pageObjects/input", are external and come from
+ * salesforce-pageobjects.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SpecDependencyGraph {
+
+  static final String SPEC_SUFFIX = ".utam.json";
+  private static final Pattern TYPE_REFERENCE = Pattern.compile("^[\\w-]+/pageObjects/[\\w/-]+$");
+
+  private final Map<String, Path> specFiles = new TreeMap<>();
+  private final Map<String, Set<String>> dependencies = new TreeMap<>();
+  private final Map<Pattern, String> namespaces = new LinkedHashMap<>();
+
+  /**
+   * build graph for all specs under the root
+   *
+   * @param specRoot root directory of JSON specs
+   * @param compilerConfig compiler config with namespaces
+   * @return graph instance
+   * @throws IOException if files can't be read
+   */
+  public static SpecDependencyGraph build(Path specRoot, Path compilerConfig) throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+    SpecDependencyGraph graph = new SpecDependencyGraph();
+    for (JsonNode namespace : mapper.readTree(compilerConfig.toFile()).path("namespaces")) {
+      graph.namespaces.put(
+          Pattern.compile(namespace.path("pathMatch").asText()),
+          namespace.path("typeMatch").asText());
+    }
+    SpecReader reader = new SpecReader();
+    try (Stream<Path> files = Files.walk(specRoot)) {
+      for (Path spec :
+          files
+              .filter(path -> path.getFileName().toString().endsWith(SPEC_SUFFIX))
+              .collect(Collectors.toList())) {
+        String type = graph.getType(spec);
+        Set<String> references = new TreeSet<>();
+        reader.readStrings(
+            spec,
+            value -> {
+              if (TYPE_REFERENCE.matcher(value).matches()) {
+                references.add(value);
+              }
+            });
+        references.remove(type);
+        graph.specFiles.put(type, spec);
+        graph.dependencies.put(type, references);
+      }
+    }
+    return graph;
+  }
+
+  /**
+   * page object type of the spec file, the file does not have to exist, for example if it was
+   * deleted
+   *
+   * @param spec path to the spec, same form as the specs root used to build the graph
+   * @return page object type
+   */
+  public String getType(Path spec) {
+    String directory = spec.getParent().toString().replace('\\', '/');
+    String fileName = spec.getFileName().toString();
+    String name = fileName.substring(0, fileName.length() - SPEC_SUFFIX.length());
+    for (Map.Entry<Pattern, String> namespace : namespaces.entrySet()) {
+      if (namespace.getKey().matcher(directory).matches()) {
+        return namespace.getValue() + "/pageObjects/" + name;
+      }
+    }
+    throw new IllegalStateException(
+        String.format("Spec '%s' does not match any namespace in compiler config", spec));
+  }
+
+  /**
+   * Java class name of the generated interface, for example "utam-portal/pageObjects/utamDevHome"
+   * is "utam.portal.pageobjects.UtamDevHome"
+   *
+   * @param type page object type
+   * @return full class name
+   */
+  public static String toJavaClassName(String type) {
+    String[] parts = type.split("/");
+    StringBuilder className =
+        new StringBuilder(parts[0].replaceFirst("^utam-", "utam.").replace('-', '_'))
+            .append(".pageobjects");
+    for (int i = 2; i < parts.length - 1; i++) {
+      className.append('.').append(parts[i]);
+    }
+    String name = parts[parts.length - 1];
+    return className
+        .append('.')
+        .append(Character.toUpperCase(name.charAt(0)))
+        .append(name.substring(1))
+        .toString();
+  }
+
+  /**
+   * types of all specs in the graph
+   *
+   * @return set of types
+   */
+  public Set<String> getTypes() {
+    return Collections.unmodifiableSet(specFiles.keySet());
+  }
+
+  /**
+   * check if type is declared outside of this module
+   *
+   * @param type page object type
+   * @return true if there is no spec for the type
+   */
+  public boolean isExternal(String type) {
+    return !specFiles.containsKey(type);
+  }
+
+  /**
+   * spec file of the type
+   *
+   * @param type page object type
+   * @return path to the spec or null for external type
+   */
+  public Path getSpecFile(String type) {
+    return specFiles.get(type);
+  }
+
+  /**
+   * types referenced directly from the spec
+   *
+   * @param type page object type
+   * @return set of types, empty for external type
+   */
+  public Set<String> getDependencies(String type) {
+    return dependencies.getOrDefault(type, Collections.emptySet());
+  }
+
+  /**
+   * all types that can be loaded when a test uses given type: direct and transitive dependencies
+   *
+   * @param type page object type
+   * @return set of types, includes the type itself
+   */
+  public Set<String> getClosure(String type) {
+    Set<String> closure = new TreeSet<>();
+    Deque<String> queue = new ArrayDeque<>(Collections.singleton(type));
+    while (!queue.isEmpty()) {
+      String next = queue.poll();
+      if (closure.add(next)) {
+        queue.addAll(getDependencies(next));
+      }
+    }
+    return closure;
+  }
+
+  /**
+   * all types that depend on given type directly or transitively
+   *
+   * @param type page object type
+   * @return set of types, includes the type itself
+   */
+  public Set<String> getDependents(String type) {
+    Set<String> dependents = new TreeSet<>();
+    Deque<String> queue = new ArrayDeque<>(Collections.singleton(type));
+    while (!queue.isEmpty()) {
+      String next = queue.poll();
+      if (dependents.add(next)) {
+        dependencies.forEach(
+            (dependent, references) -> {
+              if (references.contains(next)) {
+                queue.add(dependent);
+              }
+            });
+      }
+    }
+    return dependents;
+  }
+
+  /**
+   * print the graph or closures of given types
+   *
+   * @param args specs root, compiler config and optional list of types
+   * @throws IOException if files can't be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Usage: SpecDependencyGraph <specs root directory> <compiler config> [type...]");
+    }
+    SpecDependencyGraph graph = build(Paths.get(args[0]), Paths.get(args[1]));
+    if (args.length == 2) {
+      for (String type : graph.getTypes()) {
+        System.out.println(type + " -> " + graph.getDependencies(type));
+      }
+      return;
+    }
+    for (int i = 2; i < args.length; i++) {
+      Set<String> closure = graph.getClosure(args[i]);
+      System.out.println(args[i] + " loads " + closure.size() + " types:");
+      closure.forEach(
+          type ->
+              System.out.println(
+                  String.format(
+                      "  %s (%s)%s",
+                      type, toJavaClassName(type), graph.isExternal(type) ? " external" : "")));
+    }
+  }
+}
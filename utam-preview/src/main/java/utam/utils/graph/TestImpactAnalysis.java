@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Selects test classes of utam-tests impacted by changed files, so that CI of a small change runs
+ * only those tests. Every test class is mapped to page object classes referenced from its source
+ * and sources of its base classes, wildcard import of a page objects package counts as use of
+ * every type in it; page object classes are mapped to types of {@link SpecDependencyGraph}:
+ *
+ * <ul>
+ *   <li>changed or deleted spec selects tests that use its type or a type depending on it
+ *   <li>changed salesforce-pageobjects version selects tests that use types without a spec,
+ *       directly or through dependencies
+ *   <li>changed SFDX project (force-app, scratch org config) selects tests that use its types
+ *   <li>changed test class or base class of tests selects the class itself and all its subclasses,
+ *       any other changed test source, for example a listener or helper, selects all tests
+ *   <li>documentation changes select nothing, any other change selects all tests
+ * </ul>
+ *
+ * <p>Only classes of the default surefire run are selected, benchmarks are not. Can be run from
+ * command line to print impacted classes as a value of "-Dtest", reasons are printed to stderr:
+ *
+ * <p>java utam.utils.graph.TestImpactAnalysis [repository root] [base git ref, default
+ * origin/main]
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class TestImpactAnalysis {
+
+  static final String SPEC_ROOT = "utam-preview/src/main/resources/spec";
+  static final String COMPILER_CONFIG = "utam-preview/src/main/resources/compiler.config.json";
+  static final String TEST_SOURCES = "utam-tests/src/test/java";
+  static final String PAGE_OBJECTS_VERSION = "salesforce.pageobjects.version";
+  private static final List<String> SFDX_PROJECT =
+      Arrays.asList("force-app/", "config/", "sfdx-project.json");
+  private static final String SFDX_SPECS = "/spec/force-app/";
+  private static final List<String> DOCUMENTATION =
+      Arrays.asList(".github/", "LICENSE", "CODEOWNERS");
+  private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/|//[^\\n]*", Pattern.DOTALL);
+  private static final Pattern PAGE_OBJECT_CLASS =
+      Pattern.compile("\\butam(?:\\.[a-z_]\\w*)*\\.pageobjects(?:\\.[a-z_]\\w*)*\\.[A-Z]\\w*");
+  private static final Pattern PAGE_OBJECT_PACKAGE =
+      Pattern.compile(
+          "\\bimport\\s+(utam(?:\\.[a-z_]\\w*)*\\.pageobjects(?:\\.[a-z_]\\w*)*)\\.\\*");
+  private static final Pattern SUPERCLASS =
+      Pattern.compile("\\bclass\\s+\\w+(?:<[^>]*>)?\\s+extends\\s+(\\w+)");
+  private static final Pattern SUREFIRE_CLASS =
+      Pattern.compile("Test\\w*|\\w*(Test|Tests|TestCase)");
+  private static final long GIT_TIMEOUT_SECONDS = 60;
+
+  private final Path repositoryRoot;
+  private final SpecDependencyGraph graph;
+  private final Map<String, SourceClass> sources = new TreeMap<>();
+  private final Map<String, String> pageObjectTypes = new HashMap<>();
+
+  TestImpactAnalysis(Path repositoryRoot, SpecDependencyGraph graph) {
+    this.repositoryRoot = repositoryRoot;
+    this.graph = graph;
+    for (String type : graph.getTypes()) {
+      pageObjectTypes.put(SpecDependencyGraph.toJavaClassName(type), type);
+      for (String dependency : graph.getDependencies(type)) {
+        pageObjectTypes.put(SpecDependencyGraph.toJavaClassName(dependency), dependency);
+      }
+    }
+  }
+
+  /**
+   * build map of test classes and page object types they use
+   *
+   * @param repositoryRoot root of the repository
+   * @return analysis instance
+   * @throws IOException if files can't be read
+   */
+  public static TestImpactAnalysis build(Path repositoryRoot) throws IOException {
+    TestImpactAnalysis analysis =
+        new TestImpactAnalysis(
+            repositoryRoot,
+            SpecDependencyGraph.build(
+                repositoryRoot.resolve(SPEC_ROOT), repositoryRoot.resolve(COMPILER_CONFIG)));
+    Path testSources = repositoryRoot.resolve(TEST_SOURCES);
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(testSources)) {
+      files =
+          walk.filter(path -> path.getFileName().toString().endsWith(".java"))
+              .collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      String relative = testSources.relativize(file).toString().replace('\\', '/');
+      String className = relative.substring(0, relative.length() - ".java".length());
+      String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      analysis.add(className.replace('/', '.'), source);
+    }
+    return analysis;
+  }
+
+  void add(String className, String source) {
+    // commented out code does not load page objects, some examples are commented out entirely
+    String code = COMMENTS.matcher(source).replaceAll("");
+    SourceClass sourceClass = new SourceClass(className);
+    Matcher superclass = SUPERCLASS.matcher(code);
+    sourceClass.superclass = superclass.find() ? superclass.group(1) : null;
+    Matcher pageObject = PAGE_OBJECT_CLASS.matcher(code);
+    while (pageObject.find()) {
+      sourceClass.pageObjects.add(toInterfaceName(pageObject.group()));
+    }
+    Matcher pageObjectPackage = PAGE_OBJECT_PACKAGE.matcher(code);
+    while (pageObjectPackage.find()) {
+      sourceClass.pageObjectPackages.add(
+          pageObjectPackage.group(1).replaceFirst("\\.impl$", ""));
+    }
+    sourceClass.test =
+        code.contains("@Test")
+            && !Pattern.compile("\\babstract\\s+class\\s+" + sourceClass.getSimpleName() + "\\b")
+                .matcher(code)
+                .find()
+            && SUREFIRE_CLASS.matcher(sourceClass.getSimpleName()).matches();
+    sources.put(className, sourceClass);
+  }
+
+  // implementation class is found by the loader for its interface, e.g. VirtualDataTableImpl
+  private static String toInterfaceName(String className) {
+    int dot = className.lastIndexOf('.');
+    String packageName = className.substring(0, dot);
+    String name = className.substring(dot + 1);
+    if (packageName.endsWith(".impl") && name.endsWith("Impl")) {
+      return packageName.substring(0, packageName.length() - ".impl".length())
+          + "."
+          + name.substring(0, name.length() - "Impl".length());
+    }
+    return className;
+  }
+
+  private static String getPackageName(String className) {
+    return className.substring(0, className.lastIndexOf('.'));
+  }
+
+  private List<SourceClass> getHierarchy(SourceClass sourceClass) {
+    List<SourceClass> hierarchy = new ArrayList<>();
+    Set<String> visited = new HashSet<>();
+    SourceClass next = sourceClass;
+    while (next != null && visited.add(next.name)) {
+      hierarchy.add(next);
+      String superclass = next.superclass;
+      next =
+          superclass == null
+              ? null
+              : sources.values().stream()
+                  .filter(candidate -> candidate.getSimpleName().equals(superclass))
+                  .findFirst()
+                  .orElse(null);
+    }
+    return hierarchy;
+  }
+
+  /**
+   * test classes that can be run by surefire
+   *
+   * @return full class names
+   */
+  public Set<String> getTestClasses() {
+    return sources.values().stream()
+        .filter(sourceClass -> sourceClass.test)
+        .map(sourceClass -> sourceClass.name)
+        .collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  /**
+   * page object types loaded by the test class or its base classes; class without a spec in this
+   * module is reported as its full class name, it comes from salesforce-pageobjects
+   *
+   * @param testClass full class name
+   * @return set of types
+   */
+  public Set<String> getPageObjectTypes(String testClass) {
+    Set<String> types = new TreeSet<>();
+    SourceClass sourceClass = sources.get(testClass);
+    if (sourceClass != null) {
+      for (SourceClass inHierarchy : getHierarchy(sourceClass)) {
+        inHierarchy.pageObjects.forEach(
+            pageObject -> types.add(pageObjectTypes.getOrDefault(pageObject, pageObject)));
+        for (String packageName : inHierarchy.pageObjectPackages) {
+          Set<String> inPackage =
+              pageObjectTypes.entrySet().stream()
+                  .filter(entry -> getPackageName(entry.getKey()).equals(packageName))
+                  .map(Map.Entry::getValue)
+                  .collect(Collectors.toSet());
+          // types of salesforce-pageobjects are not known, package stands for all of them
+          types.addAll(inPackage.isEmpty() ? Collections.singleton(packageName + ".*") : inPackage);
+        }
+      }
+    }
+    return types;
+  }
+
+  private void selectTests(Map<String, String> impacted, String reason, Predicate<String> test) {
+    for (String testClass : getTestClasses()) {
+      if (test.test(testClass)) {
+        impacted.putIfAbsent(testClass, reason);
+      }
+    }
+  }
+
+  private void selectTestsUsing(Map<String, String> impacted, String reason, Set<String> types) {
+    selectTests(
+        impacted,
+        reason,
+        testClass -> getPageObjectTypes(testClass).stream().anyMatch(types::contains));
+  }
+
+  /**
+   * select test classes impacted by changed files
+   *
+   * @param changedFiles paths relative to the repository root, for example output of git diff
+   *     --name-only
+   * @param pomChanges added and removed lines of changed pom files
+   * @return impacted test classes with the first change that selected each of them
+   */
+  public Map<String, String> getImpactedTests(
+      Collection<String> changedFiles, Collection<String> pomChanges) {
+    Map<String, String> impacted = new TreeMap<>();
+    for (String file : changedFiles) {
+      String path = file.replace('\\', '/');
+      if (path.startsWith(SPEC_ROOT + "/") && path.endsWith(SpecDependencyGraph.SPEC_SUFFIX)) {
+        String type = graph.getType(repositoryRoot.resolve(path));
+        selectTestsUsing(impacted, "spec " + type, graph.getDependents(type));
+      } else if (path.startsWith(TEST_SOURCES + "/") && path.endsWith(".java")) {
+        String className =
+            path.substring(TEST_SOURCES.length() + 1, path.length() - ".java".length())
+                .replace('/', '.');
+        Predicate<String> inHierarchy =
+            testClass ->
+                getHierarchy(sources.get(testClass)).stream()
+                    .anyMatch(sourceClass -> sourceClass.name.equals(className));
+        if (getTestClasses().stream().anyMatch(inHierarchy)) {
+          selectTests(impacted, "test source " + className, inHierarchy);
+        } else {
+          // listeners, annotations and helpers can change any test
+          selectTests(impacted, "test source " + className, testClass -> true);
+        }
+      } else if (path.equals("pom.xml") || path.endsWith("/pom.xml")) {
+        if (pomChanges.stream().allMatch(line -> line.contains(PAGE_OBJECTS_VERSION))) {
+          selectTests(
+              impacted,
+              PAGE_OBJECTS_VERSION,
+              testClass ->
+                  getPageObjectTypes(testClass).stream()
+                      .flatMap(type -> graph.getClosure(type).stream())
+                      .anyMatch(graph::isExternal));
+        } else {
+          selectTests(impacted, "build " + path, testClass -> true);
+        }
+      } else if (SFDX_PROJECT.stream().anyMatch(path::startsWith)) {
+        Set<String> types = new TreeSet<>();
+        graph.getTypes().stream()
+            .filter(
+                type ->
+                    graph.getSpecFile(type).toString().replace('\\', '/').contains(SFDX_SPECS))
+            .forEach(type -> types.addAll(graph.getDependents(type)));
+        selectTestsUsing(impacted, "SFDX project " + path, types);
+      } else if (!path.endsWith(".md") && DOCUMENTATION.stream().noneMatch(path::startsWith)) {
+        selectTests(impacted, path, testClass -> true);
+      }
+    }
+    return impacted;
+  }
+
+  private static List<String> git(Path repositoryRoot, String... args) {
+    List<String> command = new ArrayList<>(Arrays.asList("git", "-C", repositoryRoot.toString()));
+    command.addAll(Arrays.asList(args));
+    try {
+      Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+      String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+        process.destroyForcibly();
+        throw new IllegalStateException(
+            String.format("Failed to run %s: %s", String.join(" ", command), output.trim()));
+      }
+      return Arrays.stream(output.split("\\R"))
+          .filter(line -> !line.isEmpty())
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to run git", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * print impacted test classes for changes since the base git ref, including uncommitted ones
+   *
+   * @param args repository root and base git ref, both optional
+   * @throws IOException if files can't be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length > 2) {
+      throw new IllegalArgumentException(
+          "Usage: TestImpactAnalysis [repository root] [base git ref]");
+    }
+    Path root = Paths.get(args.length > 0 ? args[0] : ".").toAbsolutePath().normalize();
+    String base = args.length > 1 ? args[1] : "origin/main";
+    List<String> changedFiles = git(root, "diff", "--name-only", base);
+    List<String> pomChanges =
+        git(root, "diff", "-U0", base, "--", "pom.xml", "*/pom.xml").stream()
+            .filter(line -> line.startsWith("+") || line.startsWith("-"))
+            .filter(line -> !line.startsWith("+++") && !line.startsWith("---"))
+            .collect(Collectors.toList());
+    Map<String, String> impacted = build(root).getImpactedTests(changedFiles, pomChanges);
+    impacted.forEach((testClass, reason) -> System.err.println(testClass + " <- " + reason));
+    System.out.println(
+        impacted.keySet().stream()
+            .map(testClass -> testClass.substring(testClass.lastIndexOf('.') + 1))
+            .collect(Collectors.joining(",")));
+  }
+
+  private static class SourceClass {
+
+    private final String name;
+    private final Set<String> pageObjects = new TreeSet<>();
+    private final Set<String> pageObjectPackages = new TreeSet<>();
+    private String superclass;
+    private boolean test;
+
+    SourceClass(String name) {
+      this.name = name;
+    }
+
+    String getSimpleName() {
+      return name.substring(name.lastIndexOf('.') + 1);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.index;
+
+/**
+ * Element declared in a JSON spec with properties that drive runtime cost of its lookup
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class IndexedElement {
+
+  private final String pageObject;
+  private final String name;
+  private final String selectorType;
+  private final String selector;
+  private final String type;
+  private final int depth;
+  private final int shadowDepth;
+  private final boolean returnAll;
+  private final boolean nullable;
+  private final boolean parameterized;
+  private final boolean isPublic;
+
+  IndexedElement(
+      String pageObject,
+      String name,
+      String selectorType,
+      String selector,
+      String type,
+      int depth,
+      int shadowDepth,
+      boolean returnAll,
+      boolean nullable,
+      boolean parameterized,
+      boolean isPublic) {
+    this.pageObject = pageObject;
+    this.name = name;
+    this.selectorType = selectorType;
+    this.selector = selector;
+    this.type = type;
+    this.depth = depth;
+    this.shadowDepth = shadowDepth;
+    this.returnAll = returnAll;
+    this.nullable = nullable;
+    this.parameterized = parameterized;
+    this.isPublic = isPublic;
+  }
+
+  /**
+   * page object name relative to the specs root, for example "force-app/homePage"
+   *
+   * @return page object name
+   */
+  public String getPageObject() {
+    return pageObject;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * selector type: css, accessid, classchain or uiautomator
+   *
+   * @return selector type or null if selector is missing
+   */
+  public String getSelectorType() {
+    return selectorType;
+  }
+
+  public String getSelector() {
+    return selector;
+  }
+
+  /**
+   * element type: basic actions, "container", "frame" or page object type
+   *
+   * @return element type
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * number of elements on the path from the root including this one, each one is a separate
+   * element lookup
+   *
+   * @return nesting depth
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * number of shadow boundaries on the path from the root
+   *
+   * @return shadow depth
+   */
+  public int getShadowDepth() {
+    return shadowDepth;
+  }
+
+  public boolean isReturnAll() {
+    return returnAll;
+  }
+
+  public boolean isNullable() {
+    return nullable;
+  }
+
+  public boolean isParameterized() {
+    return parameterized;
+  }
+
+  public boolean isPublic() {
+    return isPublic;
+  }
+
+  /**
+   * worst-case round trips to find the element: one per element on the path and one per shadow
+   * root
+   *
+   * @return number of round trips
+   */
+  public int getLookupRoundTrips() {
+    return depth + shadowDepth;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s.%s %s=%s depth=%d shadow=%d%s%s",
+        pageObject,
+        name,
+        selectorType,
+        selector,
+        depth,
+        shadowDepth,
+        returnAll ? " returnAll" : "",
+        nullable ? " nullable" : "");
+  }
+}
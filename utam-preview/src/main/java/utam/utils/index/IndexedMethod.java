@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.index;
+
+/**
+ * Public method of a page object: compose method or getter of a public element, with estimated
+ * worst-case WebDriver round trips, see {@link SpecElementIndex} for the estimation rules
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class IndexedMethod {
+
+  private final String pageObject;
+  private final String name;
+  private final int composeLength;
+  private final int roundTrips;
+  private final boolean waits;
+
+  IndexedMethod(String pageObject, String name, int composeLength, int roundTrips, boolean waits) {
+    this.pageObject = pageObject;
+    this.name = name;
+    this.composeLength = composeLength;
+    this.roundTrips = roundTrips;
+    this.waits = waits;
+  }
+
+  public String getPageObject() {
+    return pageObject;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * number of compose statements including nested predicates, 0 for element getters
+   *
+   * @return compose length
+   */
+  public int getComposeLength() {
+    return composeLength;
+  }
+
+  public int getRoundTrips() {
+    return roundTrips;
+  }
+
+  /**
+   * method has waitFor statements, predicate is counted once but is repeated until timeout
+   *
+   * @return true if method waits
+   */
+  public boolean isWaits() {
+    return waits;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s.%s round trips=%d%s compose=%d",
+        pageObject, name, roundTrips, waits ? "+wait" : "", composeLength);
+  }
+}
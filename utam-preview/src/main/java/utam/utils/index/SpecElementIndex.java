@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import utam.utils.spec.SpecReader;
+import utam.utils.spec.SpecVisitor;
+
+/**
+ * Inventory of elements and public methods of all JSON specs under a root. Specs are streamed
+ * one at a time with {@link SpecReader} and only extracted properties are kept, so the index of a
+ * big spec tree is small.
+ *
+ * <p>Worst-case WebDriver round trips of a method are estimated statically:
+ *
+ * <ul>
+ *   <li>element lookup is one round trip per element on its path from the root plus one per
+ *       shadow root
+ *   <li>action applied to an element is one round trip, for "returnAll" element it is repeated
+ *       for {@link #LIST_SIZE} elements
+ *   <li>chained statement is one lookup in the chained page object plus its action
+ *   <li>call of another method of the same page object adds cost of that method
+ *   <li>waitFor predicate is counted once, method is marked as waiting
+ * </ul>
+ *
+ * <p>Can be run from command line to print summary, most expensive methods and elements matching
+ * a search text:
+ *
+ * <p>java utam.utils.index.SpecElementIndex src/main/resources/spec [search text]
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SpecElementIndex {
+
+  static final String SPEC_SUFFIX = ".utam.json";
+  static final int LIST_SIZE = 10;
+  private static final int TOP_METHODS = 20;
+  private static final List<String> SELECTOR_TYPES =
+      Arrays.asList("css", "accessid", "classchain", "uiautomator");
+  private static final Set<String> SELF_REFERENCES = new HashSet<>(Arrays.asList("root", "self"));
+
+  private final List<IndexedElement> elements = new ArrayList<>();
+  private final List<IndexedMethod> methods = new ArrayList<>();
+  private int specsCount;
+
+  /**
+   * build index for all specs under the root
+   *
+   * @param specRoot root directory of JSON specs
+   * @return index instance
+   * @throws IOException if files can't be read
+   */
+  public static SpecElementIndex build(Path specRoot) throws IOException {
+    SpecReader reader = new SpecReader();
+    SpecElementIndex index = new SpecElementIndex();
+    List<Path> specs;
+    try (Stream<Path> files = Files.walk(specRoot)) {
+      specs =
+          files
+              .filter(path -> path.getFileName().toString().endsWith(SPEC_SUFFIX))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    for (Path spec : specs) {
+      String relative = specRoot.relativize(spec).toString().replace('\\', '/');
+      String pageObject = relative.substring(0, relative.length() - SPEC_SUFFIX.length());
+      SpecCollector collector = new SpecCollector(pageObject);
+      reader.read(spec, collector);
+      index.add(collector);
+    }
+    return index;
+  }
+
+  private void add(SpecCollector spec) {
+    specsCount++;
+    elements.addAll(spec.elements.values());
+    for (IndexedElement element : spec.elements.values()) {
+      if (element.isPublic()) {
+        String getter =
+            "get"
+                + element.getName().substring(0, 1).toUpperCase(Locale.ROOT)
+                + element.getName().substring(1);
+        methods.add(
+            new IndexedMethod(spec.pageObject, getter, 0, element.getLookupRoundTrips(), false));
+      }
+    }
+    Estimate estimate = new Estimate(spec.elements, spec.methods);
+    if (spec.beforeLoad != null) {
+      Cost cost = estimate.statements(spec.beforeLoad, new HashSet<>());
+      methods.add(
+          new IndexedMethod(spec.pageObject, "load", cost.length, cost.roundTrips, cost.waits));
+    }
+    for (Map.Entry<String, JsonNode> method : spec.methods.entrySet()) {
+      Set<String> visited = new HashSet<>();
+      visited.add(method.getKey());
+      Cost cost = estimate.statements(method.getValue(), visited);
+      methods.add(
+          new IndexedMethod(
+              spec.pageObject, method.getKey(), cost.length, cost.roundTrips, cost.waits));
+    }
+  }
+
+  private static String getType(JsonNode type) {
+    if (type.isMissingNode()) {
+      return "basic";
+    }
+    if (type.isArray()) {
+      List<String> types = new ArrayList<>();
+      type.forEach(basicType -> types.add(basicType.asText()));
+      return String.join(",", types);
+    }
+    return type.asText();
+  }
+
+  public int getSpecsCount() {
+    return specsCount;
+  }
+
+  public List<IndexedElement> getElements() {
+    return Collections.unmodifiableList(elements);
+  }
+
+  public List<IndexedMethod> getMethods() {
+    return Collections.unmodifiableList(methods);
+  }
+
+  /**
+   * find elements with page object, name or selector containing the text, case insensitive
+   *
+   * @param text text to search
+   * @return matching elements
+   */
+  public List<IndexedElement> search(String text) {
+    String query = text.toLowerCase(Locale.ROOT);
+    return elements.stream()
+        .filter(
+            element ->
+                Stream.of(element.getPageObject(), element.getName(), element.getSelector())
+                    .anyMatch(
+                        value -> value != null && value.toLowerCase(Locale.ROOT).contains(query)))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * methods with the most round trips
+   *
+   * @param limit max number of methods
+   * @return methods sorted by round trips in descending order
+   */
+  public List<IndexedMethod> getMostExpensiveMethods(int limit) {
+    return methods.stream()
+        .sorted(
+            Comparator.comparingInt(IndexedMethod::getRoundTrips)
+                .reversed()
+                .thenComparing(IndexedMethod::getPageObject)
+                .thenComparing(IndexedMethod::getName))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * print summary of the index
+   *
+   * @param args path to the specs root and optional search text
+   * @throws IOException if files can't be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      throw new IllegalArgumentException("Usage: SpecElementIndex <specs root> [search text]");
+    }
+    SpecElementIndex index = build(Paths.get(args[0]));
+    if (args.length == 2) {
+      index.search(args[1]).forEach(System.out::println);
+      return;
+    }
+    List<IndexedElement> all = index.getElements();
+    System.out.println(
+        String.format("%d specs, %d elements", index.getSpecsCount(), all.size()));
+    System.out.println(
+        String.format(
+            "returnAll: %d, nullable: %d, parameterized selectors: %d",
+            all.stream().filter(IndexedElement::isReturnAll).count(),
+            all.stream().filter(IndexedElement::isNullable).count(),
+            all.stream().filter(IndexedElement::isParameterized).count()));
+    System.out.println(
+        "selectors: "
+            + all.stream()
+                .collect(
+                    Collectors.groupingBy(
+                        element -> String.valueOf(element.getSelectorType()),
+                        TreeMap::new,
+                        Collectors.counting())));
+    System.out.println(
+        "shadow depth: "
+            + all.stream()
+                .collect(
+                    Collectors.groupingBy(
+                        IndexedElement::getShadowDepth, TreeMap::new, Collectors.counting())));
+    System.out.println("most expensive methods:");
+    index.getMostExpensiveMethods(TOP_METHODS).forEach(method -> System.out.println("  " + method));
+  }
+
+  /** keeps extracted properties of one spec until it is read */
+  private static class SpecCollector implements SpecVisitor {
+
+    private final String pageObject;
+    private final Map<String, IndexedElement> elements = new LinkedHashMap<>();
+    private final Map<String, JsonNode> methods = new LinkedHashMap<>();
+    private JsonNode beforeLoad;
+
+    SpecCollector(String pageObject) {
+      this.pageObject = pageObject;
+    }
+
+    @Override
+    public void element(JsonNode properties, int depth, int shadowDepth) {
+      JsonNode selector = properties.path("selector");
+      String selectorType =
+          SELECTOR_TYPES.stream().filter(selector::has).findFirst().orElse(null);
+      IndexedElement element =
+          new IndexedElement(
+              pageObject,
+              properties.path("name").asText(),
+              selectorType,
+              selectorType == null ? null : selector.path(selectorType).asText(),
+              getType(properties.path("type")),
+              depth,
+              shadowDepth,
+              selector.path("returnAll").asBoolean(),
+              properties.path("nullable").asBoolean(),
+              selector.has("args"),
+              properties.path("public").asBoolean());
+      elements.put(element.getName(), element);
+    }
+
+    @Override
+    public void method(JsonNode method) {
+      methods.put(method.path("name").asText(), method.path("compose"));
+    }
+
+    @Override
+    public void beforeLoad(JsonNode statements) {
+      beforeLoad = statements;
+    }
+  }
+
+  private static class Cost {
+
+    private int length;
+    private int roundTrips;
+    private boolean waits;
+
+    void add(Cost other) {
+      length += other.length;
+      roundTrips += other.roundTrips;
+      waits |= other.waits;
+    }
+  }
+
+  private static class Estimate {
+
+    private final Map<String, IndexedElement> elements;
+    private final Map<String, JsonNode> methods;
+
+    Estimate(Map<String, IndexedElement> elements, Map<String, JsonNode> methods) {
+      this.elements = elements;
+      this.methods = methods;
+    }
+
+    Cost statements(JsonNode statements, Set<String> visited) {
+      Cost cost = new Cost();
+      for (JsonNode statement : statements) {
+        cost.add(statement(statement, visited));
+      }
+      return cost;
+    }
+
+    private Cost statement(JsonNode statement, Set<String> visited) {
+      Cost cost = new Cost();
+      cost.length = 1;
+      String element = statement.path("element").asText(null);
+      String apply = statement.path("apply").asText(null);
+      Cost predicate = predicates(statement, visited);
+      int action = apply == null || "returnSelf".equals(apply) ? 0 : 1;
+      if (predicate.length > 0) {
+        // waitFor evaluates predicate instead of a single action
+        action = predicate.roundTrips;
+        cost.length += predicate.length;
+        cost.waits = true;
+      }
+      if (statement.path("chain").asBoolean()) {
+        cost.roundTrips = (element == null ? 0 : 1) + action;
+      } else if (element == null || SELF_REFERENCES.contains(element)) {
+        if (apply != null && methods.containsKey(apply) && visited.add(apply)) {
+          cost.add(statements(methods.get(apply), visited));
+          visited.remove(apply);
+        } else {
+          cost.roundTrips = action;
+        }
+      } else {
+        IndexedElement indexed = elements.get(element);
+        int lookup = indexed == null ? 1 : indexed.getLookupRoundTrips();
+        boolean list = indexed != null && indexed.isReturnAll();
+        cost.roundTrips = lookup + (list ? LIST_SIZE * action : action);
+      }
+      return cost;
+    }
+
+    private Cost predicates(JsonNode statement, Set<String> visited) {
+      Cost cost = new Cost();
+      for (JsonNode arg : statement.path("args")) {
+        if (arg.has("predicate")) {
+          cost.add(statements(arg.path("predicate"), visited));
+        }
+      }
+      return cost;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.spec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Event-based reader of JSON specs. Spec is never loaded as a whole: nested "elements" and
+ * "shadow" are streamed, only one element without its children, one method or "beforeLoad" block
+ * is held in memory at a time. Memory per file is bounded by the biggest single element or
+ * method, not by file size, which matters for generated flexipage specs with thousands of lines.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SpecReader {
+
+  private static final String ELEMENTS = "elements";
+  private static final String SHADOW = "shadow";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final JsonFactory factory = mapper.getFactory();
+
+  /**
+   * read spec file and send its parts to the visitor
+   *
+   * @param spec spec file
+   * @param visitor visitor
+   * @throws IOException if file can't be read or is not a valid spec
+   */
+  public void read(Path spec, SpecVisitor visitor) throws IOException {
+    try (JsonParser parser = factory.createParser(spec.toFile())) {
+      expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (ELEMENTS.equals(field)) {
+          readElements(parser, value, 0, 0, visitor);
+        } else if (SHADOW.equals(field)) {
+          readShadow(parser, value, 0, 0, visitor);
+        } else if ("methods".equals(field)) {
+          expect(parser, value, JsonToken.START_ARRAY);
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            visitor.method(parser.readValueAsTree());
+          }
+        } else if ("beforeLoad".equals(field)) {
+          visitor.beforeLoad(parser.readValueAsTree());
+        } else {
+          visitor.rootProperty(field, parser.readValueAsTree());
+        }
+      }
+    }
+  }
+
+  /**
+   * send every string value of the spec to the consumer, for example to find type references
+   *
+   * @param spec spec file
+   * @param consumer consumer of values
+   * @throws IOException if file can't be read
+   */
+  public void readStrings(Path spec, Consumer<String> consumer) throws IOException {
+    try (JsonParser parser = factory.createParser(spec.toFile())) {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null) {
+        if (token == JsonToken.VALUE_STRING) {
+          consumer.accept(parser.getText());
+        }
+      }
+    }
+  }
+
+  private void readShadow(
+      JsonParser parser, JsonToken token, int depth, int shadowDepth, SpecVisitor visitor)
+      throws IOException {
+    expect(parser, token, JsonToken.START_OBJECT);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (ELEMENTS.equals(field)) {
+        readElements(parser, value, depth, shadowDepth + 1, visitor);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void readElements(
+      JsonParser parser, JsonToken token, int depth, int shadowDepth, SpecVisitor visitor)
+      throws IOException {
+    expect(parser, token, JsonToken.START_ARRAY);
+    JsonToken next;
+    while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+      readElement(parser, next, depth + 1, shadowDepth, visitor);
+    }
+  }
+
+  private void readElement(
+      JsonParser parser, JsonToken token, int depth, int shadowDepth, SpecVisitor visitor)
+      throws IOException {
+    expect(parser, token, JsonToken.START_OBJECT);
+    ObjectNode properties = mapper.createObjectNode();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (ELEMENTS.equals(field)) {
+        readElements(parser, value, depth, shadowDepth, visitor);
+      } else if (SHADOW.equals(field)) {
+        readShadow(parser, value, depth, shadowDepth, visitor);
+      } else {
+        properties.set(field, parser.<JsonNode>readValueAsTree());
+      }
+    }
+    visitor.element(properties, depth, shadowDepth);
+  }
+
+  private static void expect(JsonParser parser, JsonToken actual, JsonToken expected)
+      throws IOException {
+    if (actual != expected) {
+      throw new IOException(
+          String.format(
+              "Expected %s but found %s at %s", expected, actual, parser.getCurrentLocation()));
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.spec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Receives parts of a JSON spec from {@link SpecReader} as soon as they are parsed
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public interface SpecVisitor {
+
+  /**
+   * called for the spec root properties, for example "root", "selector", "type"
+   *
+   * @param name property name
+   * @param value property value
+   */
+  default void rootProperty(String name, JsonNode value) {}
+
+  /**
+   * called when element object is parsed, after its nested elements
+   *
+   * @param properties element properties without nested "elements" and "shadow"
+   * @param depth number of elements on the path from the root including this one
+   * @param shadowDepth number of shadow boundaries on the path from the root
+   */
+  default void element(JsonNode properties, int depth, int shadowDepth) {}
+
+  /**
+   * called for every method
+   *
+   * @param method method object with "name" and "compose"
+   */
+  default void method(JsonNode method) {}
+
+  /**
+   * called for "beforeLoad" statements
+   *
+   * @param statements array of statements
+   */
+  default void beforeLoad(JsonNode statements) {}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Bundles compiled from a small spec: element paths, parameter order, presence checks and reasons
+ * of methods that keep generated Java code
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ScriptBundleCompilerTest {
+
+  private static final String SPEC =
+      "{\"root\": true, \"selector\": {\"css\": \"body\"},"
+          + " \"elements\": ["
+          + "  {\"name\": \"header\", \"selector\": {\"css\": \"header\"}},"
+          + "  {\"name\": \"items\", \"selector\": {\"css\": \"li\", \"returnAll\": true}},"
+          + "  {\"name\": \"panel\", \"selector\": {\"css\": \".panel\"},"
+          + "   \"shadow\": {\"elements\": [{\"name\": \"body\", \"selector\": {\"css\": \"p\"},"
+          + "     \"elements\": [{\"name\": \"link\", \"selector\": {\"css\": \"a\"}}]}]}},"
+          + "  {\"name\": \"button\", \"type\": \"clickable\","
+          + "   \"selector\": {\"css\": \"button\"}},"
+          + "  {\"name\": \"input\", \"type\": \"utam-lightning/pageObjects/input\","
+          + "   \"selector\": {\"css\": \"lightning-input\"}}"
+          + " ],"
+          + " \"methods\": ["
+          + "  {\"name\": \"getTwoAttributes\","
+          + "   \"args\": [{\"name\": \"first\", \"type\": \"string\"},"
+          + "            {\"name\": \"second\", \"type\": \"string\"}],"
+          + "   \"compose\": ["
+          + "    {\"element\": \"header\", \"apply\": \"getAttribute\","
+          + "     \"args\": [{\"name\": \"second\", \"type\": \"string\"}]},"
+          + "    {\"element\": \"header\", \"apply\": \"getAttribute\","
+          + "     \"args\": [{\"name\": \"first\", \"type\": \"string\"}]}]},"
+          + "  {\"name\": \"getAttributeByUse\","
+          + "   \"compose\": [{\"element\": \"header\", \"apply\": \"getAttribute\","
+          + "     \"args\": [{\"name\": \"attribute\", \"type\": \"string\"}]}]},"
+          + "  {\"name\": \"getUndeclared\","
+          + "   \"args\": [{\"name\": \"first\", \"type\": \"string\"}],"
+          + "   \"compose\": [{\"element\": \"header\", \"apply\": \"getAttribute\","
+          + "     \"args\": [{\"name\": \"other\", \"type\": \"string\"}]}]},"
+          + "  {\"name\": \"getLinkText\","
+          + "   \"compose\": [{\"element\": \"link\", \"apply\": \"getText\"}]},"
+          + "  {\"name\": \"isHeaderPresent\","
+          + "   \"compose\": [{\"element\": \"header\", \"apply\": \"isPresent\"}]},"
+          + "  {\"name\": \"hasItems\","
+          + "   \"compose\": [{\"element\": \"items\", \"apply\": \"isPresent\"}]},"
+          + "  {\"name\": \"clickButton\","
+          + "   \"compose\": [{\"element\": \"button\", \"apply\": \"click\"}]},"
+          + "  {\"name\": \"getInputText\","
+          + "   \"compose\": [{\"element\": \"input\", \"apply\": \"getText\"}]}"
+          + " ]}";
+
+  private Path specRoot;
+  private Path output;
+  private ScriptBundleCompiler compiler;
+  private List<String> bundles;
+
+  @BeforeClass
+  public void compile() throws IOException {
+    specRoot = Files.createTempDirectory("utam-specs");
+    output = Files.createTempDirectory("utam-bundles");
+    Path spec = specRoot.resolve("test/page" + ScriptBundleCompiler.SPEC_SUFFIX);
+    Files.createDirectories(spec.getParent());
+    Files.write(spec, SPEC.getBytes(StandardCharsets.UTF_8));
+    compiler = new ScriptBundleCompiler(specRoot, output);
+    bundles = compiler.compile();
+  }
+
+  @AfterClass
+  public void cleanup() throws IOException {
+    for (Path root : Arrays.asList(specRoot, output)) {
+      try (Stream<Path> files = Files.walk(root)) {
+        for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  private String bundle(String method) throws IOException {
+    Path file = output.resolve("bundles/test/page/" + method + ".js");
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+
+  private String fallback(String method) {
+    return compiler.getFallbacks().stream()
+        .filter(message -> message.startsWith("test/page/" + method + ":"))
+        .findFirst()
+        .orElse(null);
+  }
+
+  @Test
+  public void testEligibleMethodsAreCompiled() {
+    assertEquals(
+        bundles,
+        Arrays.asList(
+            "test/page/getTwoAttributes",
+            "test/page/getAttributeByUse",
+            "test/page/getLinkText",
+            "test/page/isHeaderPresent",
+            "test/page/hasItems"));
+  }
+
+  @Test
+  public void testDeclaredArgsDefineParameterOrder() throws IOException {
+    String script = bundle("getTwoAttributes");
+    // "second" is used first, but it is the second parameter of the method
+    int second = script.indexOf("e.getAttribute(args[2])");
+    int first = script.indexOf("e.getAttribute(args[1])");
+    assertTrue(second >= 0 && first > second, script);
+  }
+
+  @Test
+  public void testParametersWithoutDeclarationFollowOrderOfUse() throws IOException {
+    assertTrue(bundle("getAttributeByUse").contains("e.getAttribute(args[1])"));
+  }
+
+  @Test
+  public void testNestedElementPathFromStreamedSpec() throws IOException {
+    // parent selectors are prepended, shadow flag is set only below the shadow boundary
+    String script = bundle("getLinkText");
+    assertTrue(
+        script.contains(
+            "resolve([{css:'.panel',shadow:false},{css:'p',shadow:true},{css:'a',shadow:false}]"),
+        script);
+  }
+
+  @Test
+  public void testUndeclaredParameterIsNotCompiled() {
+    assertEquals(
+        fallback("getUndeclared"),
+        "test/page/getUndeclared: parameter 'other' is not in method args");
+  }
+
+  @Test
+  public void testPresenceOfRequiredElementDoesNotThrow() throws IOException {
+    // element is not nullable, presence check resolves it as nullable and returns false
+    String header = bundle("isHeaderPresent");
+    assertTrue(
+        header.contains("resolve([{css:'header',shadow:false}], false, true) != null"), header);
+    String items = bundle("hasItems");
+    assertTrue(
+        items.contains("(resolve([{css:'li',shadow:false}], true, true) || []).length > 0"), items);
+  }
+
+  @Test
+  public void testIneligibleMethodsHaveReasons() {
+    assertEquals(
+        fallback("clickButton"),
+        "test/page/clickButton: action 'click' changes the page, only reads are compiled");
+    assertEquals(
+        fallback("getInputText"),
+        "test/page/getInputText: element 'input' is a custom component or has dynamic selector");
+    assertFalse(Files.exists(output.resolve("bundles/test/page/clickButton.js")));
+  }
+}
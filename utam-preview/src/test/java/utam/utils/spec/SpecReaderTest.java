@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.spec;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+/**
+ * Events sent by the streaming reader for a small spec with nested elements and shadow roots
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SpecReaderTest {
+
+  private static final String SPEC =
+      "{\"root\": true, \"selector\": {\"css\": \"my-panel\"},"
+          + " \"methods\": [{\"name\": \"getTitle\"}, {\"name\": \"getBody\"}],"
+          + " \"shadow\": {\"elements\": ["
+          + "  {\"name\": \"panel\", \"selector\": {\"css\": \".panel\"},"
+          + "   \"elements\": [{\"name\": \"title\", \"selector\": {\"css\": \"h2\"}}],"
+          + "   \"shadow\": {\"elements\": [{\"name\": \"body\", \"selector\": {\"css\": \"p\"}}]}}"
+          + " ]},"
+          + " \"elements\": [{\"name\": \"footer\", \"selector\": {\"css\": \"footer\"}}],"
+          + " \"beforeLoad\": [{\"apply\": \"waitFor\"}]}";
+
+  private final SpecReader reader = new SpecReader();
+
+  private static Path write(String json) throws IOException {
+    Path spec = Files.createTempFile("spec", ".utam.json");
+    spec.toFile().deleteOnExit();
+    Files.write(spec, json.getBytes(StandardCharsets.UTF_8));
+    return spec;
+  }
+
+  @Test
+  public void testPartsAreSentInOrder() throws IOException {
+    List<String> events = new ArrayList<>();
+    reader.read(
+        write(SPEC),
+        new SpecVisitor() {
+          @Override
+          public void rootProperty(String name, JsonNode value) {
+            events.add("root " + name);
+          }
+
+          @Override
+          public void element(JsonNode properties, int depth, int shadowDepth) {
+            String name = properties.get("name").asText();
+            events.add(String.format("element %s %d %d", name, depth, shadowDepth));
+            assertFalse(properties.has("elements") || properties.has("shadow"));
+          }
+
+          @Override
+          public void method(JsonNode method) {
+            events.add("method " + method.get("name").asText());
+          }
+
+          @Override
+          public void beforeLoad(JsonNode statements) {
+            events.add("beforeLoad " + statements.size());
+          }
+        });
+    // nested elements come before their parent
+    assertEquals(
+        events,
+        Arrays.asList(
+            "root root",
+            "root selector",
+            "method getTitle",
+            "method getBody",
+            "element title 2 1",
+            "element body 2 2",
+            "element panel 1 1",
+            "element footer 1 0",
+            "beforeLoad 1"));
+  }
+
+  @Test
+  public void testReadStrings() throws IOException {
+    List<String> strings = new ArrayList<>();
+    reader.readStrings(write(SPEC), strings::add);
+    // values only, property names are not sent
+    assertEquals(
+        strings,
+        Arrays.asList(
+            "my-panel", "getTitle", "getBody", "panel", ".panel", "title", "h2", "body", "p",
+            "footer", "footer", "waitFor"));
+  }
+
+  @Test
+  public void testNotSpecObjectThrows() throws IOException {
+    Path spec = write("[{\"name\": \"panel\"}]");
+    IOException e = expectThrows(IOException.class, () -> reader.read(spec, new SpecVisitor() {}));
+    assertTrue(e.getMessage().startsWith("Expected START_OBJECT but found START_ARRAY"));
+  }
+
+  @Test
+  public void testElementsNotArrayThrows() throws IOException {
+    Path spec = write("{\"elements\": {\"name\": \"panel\"}}");
+    IOException e = expectThrows(IOException.class, () -> reader.read(spec, new SpecVisitor() {}));
+    assertTrue(e.getMessage().startsWith("Expected START_ARRAY but found START_OBJECT"));
+  }
+}
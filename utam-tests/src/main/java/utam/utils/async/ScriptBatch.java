@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.async;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Independent DOM reads coalesced into a single executeScript call. Every read is a JavaScript
+ * function body that gets its own arguments; results are delivered through futures once the batch
+ * is executed with {@link #execute(JavascriptExecutor)}.
+ *
+ * <p>Element reads accept a shadow path: list of CSS selectors where every next selector is applied
+ * inside the shadow root of the element found by the previous one (or inside the element itself if
+ * it has no shadow root). This is how Lightning components nest. Path starts at the document or,
+ * for a batch created with a scope, inside the scope element, for example root of a page object:
+ *
+ * <p>new ScriptBatch(RootElements.of(table)).count("tbody tr")
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ScriptBatch {
+
+  // same as WebElement.getText: rendered text, hidden elements are empty; SVG has no innerText
+  private static final String TEXT_FUNCTION =
+      "function text(e) {"
+          + "  return (e.innerText === undefined ? e.textContent : e.innerText).trim();"
+          + "}";
+  // resolves shadow path from the root, with "all" flag returns all matches of the last selector
+  private static final String FIND_FUNCTION =
+      "function find(path, all) {"
+          + "  var scope = root;"
+          + "  for (var i = 0; i < path.length; i++) {"
+          + "    var last = i === path.length - 1;"
+          + "    if (last && all) {"
+          + "      return Array.prototype.slice.call(scope.querySelectorAll(path[i]));"
+          + "    }"
+          + "    var found = scope.querySelector(path[i]);"
+          + "    if (!found) { return all ? [] : null; }"
+          + "    scope = last ? found : (found.shadowRoot || found);"
+          + "  }"
+          + "  return scope;"
+          + "}";
+
+  private final WebElement scope;
+  private final List<String> functions = new ArrayList<>();
+  private final List<List<Object>> arguments = new ArrayList<>();
+  private final List<CompletableFuture<Object>> results = new ArrayList<>();
+
+  /** batch of reads with paths that start at the document */
+  public ScriptBatch() {
+    this(null);
+  }
+
+  /**
+   * batch of reads with paths that start inside the scope element or its shadow root
+   *
+   * @param scope element to search in, null to search in the document
+   */
+  public ScriptBatch(WebElement scope) {
+    this.scope = scope;
+  }
+
+  /**
+   * add read defined by JavaScript function body, body can use function "find(path, all)" to
+   * resolve a shadow path and function "text(element)" to read rendered text
+   *
+   * @param functionBody body of the function, should return a JSON compatible value
+   * @param args arguments available to the function as "arguments"
+   * @return future completed after batch execution
+   */
+  public CompletableFuture<Object> add(String functionBody, Object... args) {
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    functions.add(functionBody);
+    arguments.add(Arrays.asList(args));
+    results.add(result);
+    return result;
+  }
+
+  /**
+   * read rendered text of the element, same as WebElement.getText
+   *
+   * @param shadowPath CSS selectors to the element
+   * @return future with text or null if element not found
+   */
+  public CompletableFuture<String> getText(String... shadowPath) {
+    return add(
+            "var e = find(arguments[0], false); return e ? text(e) : null;",
+            Arrays.asList(shadowPath))
+        .thenApply(value -> (String) value);
+  }
+
+  /**
+   * read attribute of the element
+   *
+   * @param attribute attribute name
+   * @param shadowPath CSS selectors to the element
+   * @return future with attribute value or null if element or attribute not found
+   */
+  public CompletableFuture<String> getAttribute(String attribute, String... shadowPath) {
+    return add(
+            "var e = find(arguments[0], false); return e ? e.getAttribute(arguments[1]) : null;",
+            Arrays.asList(shadowPath),
+            attribute)
+        .thenApply(value -> (String) value);
+  }
+
+  /**
+   * count elements matching last selector in the path
+   *
+   * @param shadowPath CSS selectors to the elements
+   * @return future with number of elements
+   */
+  public CompletableFuture<Integer> count(String... shadowPath) {
+    return add("return find(arguments[0], true).length;", Arrays.asList(shadowPath))
+        .thenApply(value -> ((Number) value).intValue());
+  }
+
+  /**
+   * read rendered text of all elements matching last selector in the path
+   *
+   * @param shadowPath CSS selectors to the elements
+   * @return future with list of texts
+   */
+  @SuppressWarnings("unchecked")
+  public CompletableFuture<List<String>> getTexts(String... shadowPath) {
+    return add(
+            "return find(arguments[0], true).map(text);",
+            Arrays.asList(shadowPath))
+        .thenApply(value -> (List<String>) value);
+  }
+
+  public int size() {
+    return functions.size();
+  }
+
+  String getScript() {
+    // scope follows arguments of the reads
+    StringBuilder script =
+        new StringBuilder("var root = arguments[")
+            .append(functions.size())
+            .append("];")
+            .append("root = root ? (root.shadowRoot || root) : document;")
+            .append(FIND_FUNCTION)
+            .append(TEXT_FUNCTION)
+            .append("var results = [];");
+    for (int i = 0; i < functions.size(); i++) {
+      // every read is isolated, one failed read does not fail others
+      script
+          .append("try { results.push({value: (function() {")
+          .append(functions.get(i))
+          .append("}).apply(null, arguments[")
+          .append(i)
+          .append("])}); } catch (e) { results.push({error: String(e)}); }");
+    }
+    return script.append("return results;").toString();
+  }
+
+  /**
+   * execute all reads in one round trip and complete futures
+   *
+   * @param executor driver
+   */
+  @SuppressWarnings("unchecked")
+  public void execute(JavascriptExecutor executor) {
+    if (functions.isEmpty()) {
+      return;
+    }
+    final List<Object> values;
+    try {
+      List<Object> scriptArgs = new ArrayList<>(arguments);
+      scriptArgs.add(scope);
+      values = (List<Object>) executor.executeScript(getScript(), scriptArgs.toArray());
+    } catch (RuntimeException e) {
+      results.forEach(result -> result.completeExceptionally(e));
+      throw e;
+    }
+    for (int i = 0; i < results.size(); i++) {
+      Map<String, Object> value = (Map<String, Object>) values.get(i);
+      if (value.containsKey("error")) {
+        results
+            .get(i)
+            .completeExceptionally(
+                new IllegalStateException("Script read failed: " + value.get("error")));
+      } else {
+        results.get(i).complete(value.get("value"));
+      }
+    }
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.async;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Polls wait conditions of many sessions without a parked thread per wait. One timer thread
+ * schedules polls, a condition holds a thread only while it is evaluated, i.e. during its
+ * WebDriver round trip. With system property "utam.threads.virtual" set to true and JDK 21 or
+ * newer, conditions and sessions run on virtual threads; otherwise conditions run on a pool of
+ * "utam.poller.threads" platform threads (default 32). Virtual threads are created through
+ * reflection because the project targets Java 11.
+ *
+ * <p>Condition is done when it returns a value other than null or false; exceptions thrown by
+ * the condition are ignored until timeout, same as in waitFor of page objects. While a condition
+ * is evaluated, {@link #isPolling()} is true on its thread, so that its commands can be told apart.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class SharedPoller implements AutoCloseable {
+
+  public static final String VIRTUAL_THREADS_PROPERTY = "utam.threads.virtual";
+  static final String POLLER_THREADS_PROPERTY = "utam.poller.threads";
+  static final Duration DEFAULT_INTERVAL = Duration.ofMillis(200);
+  private static final ThreadLocal<Boolean> POLLING = ThreadLocal.withInitial(() -> false);
+  private static SharedPoller instance;
+
+  private final ScheduledExecutorService timer;
+  private final ExecutorService evaluator;
+
+  SharedPoller(ExecutorService evaluator) {
+    this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("utam-poller-timer"));
+    this.evaluator = evaluator;
+  }
+
+  /**
+   * get poller shared by all sessions of this JVM
+   *
+   * @return poller instance
+   */
+  public static synchronized SharedPoller getInstance() {
+    if (instance == null) {
+      ExecutorService virtual = isVirtualThreads() ? newVirtualThreadExecutor() : null;
+      instance =
+          new SharedPoller(
+              virtual != null
+                  ? virtual
+                  : Executors.newFixedThreadPool(
+                      Integer.getInteger(POLLER_THREADS_PROPERTY, 32),
+                      daemonThreads("utam-poller")));
+    }
+    return instance;
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * check if current thread evaluates a poll condition
+   *
+   * @return true while condition of a poll runs on this thread
+   */
+  public static boolean isPolling() {
+    return POLLING.get();
+  }
+
+  /**
+   * check if virtual threads are requested and supported by the running JDK
+   *
+   * @return true if tasks run on virtual threads
+   */
+  public static boolean isVirtualThreads() {
+    if (!Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+      return false;
+    }
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      // JDK before 21
+      return null;
+    }
+  }
+
+  /**
+   * executor that starts a thread per task, for example to run sessions: virtual threads if
+   * enabled and supported, daemon platform threads otherwise
+   *
+   * @param name prefix of platform thread names
+   * @return executor
+   */
+  public static ExecutorService newTaskExecutor(String name) {
+    if (isVirtualThreads()) {
+      ExecutorService virtual = newVirtualThreadExecutor();
+      if (virtual != null) {
+        return virtual;
+      }
+    }
+    return Executors.newCachedThreadPool(daemonThreads(name));
+  }
+
+  /**
+   * poll the condition with default interval of 200 ms until it is done or timeout expires
+   *
+   * @param condition condition, usually page object or driver call
+   * @param timeout max time to wait
+   * @param <T> type of the result
+   * @return future with the result, completed exceptionally with TimeoutException
+   */
+  public <T> CompletableFuture<T> poll(Supplier<T> condition, Duration timeout) {
+    return poll(condition, DEFAULT_INTERVAL, timeout);
+  }
+
+  /**
+   * poll the condition until it is done or timeout expires, first poll is immediate
+   *
+   * @param condition condition, usually page object or driver call
+   * @param interval time between the end of a poll and the start of the next one
+   * @param timeout max time to wait
+   * @param <T> type of the result
+   * @return future with the result, completed exceptionally with TimeoutException
+   */
+  public <T> CompletableFuture<T> poll(Supplier<T> condition, Duration interval, Duration timeout) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Poll<T> poll = new Poll<>(condition, interval, System.nanoTime() + timeout.toNanos(), result);
+    evaluator.execute(poll);
+    return result;
+  }
+
+  /**
+   * poll the condition and block the caller until it is done, cheap on a virtual thread
+   *
+   * @param condition condition, usually page object or driver call
+   * @param timeout max time to wait
+   * @param <T> type of the result
+   * @return result of the condition
+   * @throws TimeoutException if condition is not done before timeout
+   */
+  public <T> T await(Supplier<T> condition, Duration timeout) {
+    try {
+      return poll(condition, timeout).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /** stop timer and evaluator threads, pending polls are not completed */
+  @Override
+  public void close() {
+    timer.shutdownNow();
+    evaluator.shutdownNow();
+  }
+
+  private class Poll<T> implements Runnable {
+
+    private final Supplier<T> condition;
+    private final Duration interval;
+    private final long deadline;
+    private final CompletableFuture<T> result;
+    // created once, rescheduling does not allocate a task per poll
+    private final Runnable resubmit = () -> evaluator.execute(this);
+    private Throwable lastError;
+
+    Poll(Supplier<T> condition, Duration interval, long deadline, CompletableFuture<T> result) {
+      this.condition = condition;
+      this.interval = interval;
+      this.deadline = deadline;
+      this.result = result;
+    }
+
+    @Override
+    public void run() {
+      if (result.isDone()) {
+        return;
+      }
+      POLLING.set(true);
+      try {
+        T value = condition.get();
+        if (value != null && !Boolean.FALSE.equals(value)) {
+          result.complete(value);
+          return;
+        }
+      } catch (RuntimeException e) {
+        lastError = e;
+      } finally {
+        POLLING.set(false);
+      }
+      if (System.nanoTime() + interval.toNanos() > deadline) {
+        result.completeExceptionally(
+            new TimeoutException("Condition is not met after timeout", lastError));
+        return;
+      }
+      // timer only hands the next poll over, it never runs a condition itself
+      timer.schedule(resubmit, interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.browser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.FirefoxProfile;
+
+/**
+ * Launch settings for a local browser: headless mode, window size, disabled GPU and extensions and
+ * optional directory shared by all browsers on the node. Default profile is read from system
+ * properties:
+ *
+ * <p>utam.browser.headless=true|false (default is true)
+ *
+ * <p>utam.browser.windowSize=1920x1080
+ *
+ * <p>utam.browser.disableGpu=true|false (default is true)
+ *
+ * <p>utam.browser.disableExtensions=true|false (default is true)
+ *
+ * <p>utam.browser.profileDir=/path/to/shared/dir (not set by default)
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class BrowserLaunchProfile {
+
+  static final String HEADLESS_PROPERTY = "utam.browser.headless";
+  static final String WINDOW_SIZE_PROPERTY = "utam.browser.windowSize";
+  static final String DISABLE_GPU_PROPERTY = "utam.browser.disableGpu";
+  static final String DISABLE_EXTENSIONS_PROPERTY = "utam.browser.disableExtensions";
+  static final String PROFILE_DIR_PROPERTY = "utam.browser.profileDir";
+  private static final String DEFAULT_WINDOW_SIZE = "1920x1080";
+
+  private final String name;
+  private boolean headless;
+  private int windowWidth;
+  private int windowHeight;
+  private boolean disableGpu;
+  private boolean disableExtensions;
+  private boolean disableBackgroundThrottling;
+  private String profileDirectory;
+
+  public BrowserLaunchProfile(String name) {
+    this.name = name;
+    setWindowSize(DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * profile with a visible browser window and browser defaults, same as local debugging
+   *
+   * @return profile instance
+   */
+  public static BrowserLaunchProfile headed() {
+    return new BrowserLaunchProfile("headed");
+  }
+
+  /**
+   * headless profile tuned for CI nodes
+   *
+   * @return profile instance
+   */
+  public static BrowserLaunchProfile headless() {
+    return new BrowserLaunchProfile("headless")
+        .setHeadless(true)
+        .setDisableGpu(true)
+        .setDisableExtensions(true);
+  }
+
+  /**
+   * profile configured with system properties, headless if not set otherwise
+   *
+   * @return profile instance
+   */
+  public static BrowserLaunchProfile fromSystemProperties() {
+    return new BrowserLaunchProfile("system")
+        .setHeadless(getBoolean(HEADLESS_PROPERTY))
+        .setWindowSize(System.getProperty(WINDOW_SIZE_PROPERTY, DEFAULT_WINDOW_SIZE))
+        .setDisableGpu(getBoolean(DISABLE_GPU_PROPERTY))
+        .setDisableExtensions(getBoolean(DISABLE_EXTENSIONS_PROPERTY))
+        .setProfileDirectory(System.getProperty(PROFILE_DIR_PROPERTY));
+  }
+
+  private static boolean getBoolean(String propertyName) {
+    return Boolean.parseBoolean(System.getProperty(propertyName, "true"));
+  }
+
+  public BrowserLaunchProfile setHeadless(boolean headless) {
+    this.headless = headless;
+    return this;
+  }
+
+  /**
+   * set window size
+   *
+   * @param windowSize size in format "1920x1080"
+   * @return self
+   */
+  public BrowserLaunchProfile setWindowSize(String windowSize) {
+    String[] dimensions = windowSize.toLowerCase().split("x");
+    if (dimensions.length != 2) {
+      throw new IllegalArgumentException(
+          String.format("Window size '%s' should be in format 'WIDTHxHEIGHT'", windowSize));
+    }
+    this.windowWidth = Integer.parseInt(dimensions[0].trim());
+    this.windowHeight = Integer.parseInt(dimensions[1].trim());
+    return this;
+  }
+
+  public BrowserLaunchProfile setDisableGpu(boolean disableGpu) {
+    this.disableGpu = disableGpu;
+    return this;
+  }
+
+  public BrowserLaunchProfile setDisableExtensions(boolean disableExtensions) {
+    this.disableExtensions = disableExtensions;
+    return this;
+  }
+
+  /**
+   * keep timers and rendering of background windows at full speed, needed when tests run in
+   * windows of a shared browser, see SharedBrowserSession
+   *
+   * @param disableBackgroundThrottling true to disable throttling
+   * @return self
+   */
+  public BrowserLaunchProfile setDisableBackgroundThrottling(boolean disableBackgroundThrottling) {
+    this.disableBackgroundThrottling = disableBackgroundThrottling;
+    return this;
+  }
+
+  /**
+   * set directory shared by browsers launched on the node: Chrome keeps disk cache there, Firefox
+   * uses "firefox" subdirectory (if it exists) as a template profile
+   *
+   * @param profileDirectory path to the directory or null
+   * @return self
+   */
+  public BrowserLaunchProfile setProfileDirectory(String profileDirectory) {
+    this.profileDirectory = profileDirectory;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isHeadless() {
+    return headless;
+  }
+
+  List<String> getChromeArguments() {
+    List<String> arguments = new ArrayList<>();
+    if (headless) {
+      arguments.add("--headless");
+      // /dev/shm is tiny in most containers, Chrome crashes on big pages without this
+      arguments.add("--disable-dev-shm-usage");
+    }
+    arguments.add(String.format("--window-size=%d,%d", windowWidth, windowHeight));
+    if (disableGpu) {
+      arguments.add("--disable-gpu");
+    }
+    if (disableExtensions) {
+      arguments.add("--disable-extensions");
+    }
+    if (disableBackgroundThrottling) {
+      arguments.add("--disable-background-timer-throttling");
+      arguments.add("--disable-backgrounding-occluded-windows");
+      arguments.add("--disable-renderer-backgrounding");
+    }
+    if (profileDirectory != null) {
+      arguments.add("--disk-cache-dir=" + new File(profileDirectory, "chrome-cache").getPath());
+    }
+    return arguments;
+  }
+
+  /**
+   * create options for Chrome driver
+   *
+   * @return chrome options
+   */
+  public ChromeOptions toChromeOptions() {
+    return new ChromeOptions().addArguments(getChromeArguments());
+  }
+
+  /**
+   * create options for Firefox driver
+   *
+   * @return firefox options
+   */
+  public FirefoxOptions toFirefoxOptions() {
+    FirefoxOptions options = new FirefoxOptions();
+    options.setHeadless(headless);
+    options.addArguments("--width=" + windowWidth, "--height=" + windowHeight);
+    if (profileDirectory != null) {
+      File templateProfile = new File(profileDirectory, "firefox");
+      if (templateProfile.isDirectory()) {
+        options.setProfile(new FirefoxProfile(templateProfile));
+      }
+    }
+    if (disableGpu) {
+      options.addPreference("layers.acceleration.disabled", true);
+    }
+    if (disableExtensions) {
+      options.addPreference("extensions.enabledScopes", 0);
+    }
+    return options;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s", name, getChromeArguments());
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.browser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Reads resident memory of browser and driver processes. Uses /proc so it only works on Linux,
+ * on other platforms memory is reported as -1.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class ProcessMemory {
+
+  private static final String RSS_PREFIX = "VmRSS:";
+
+  private ProcessMemory() {}
+
+  /**
+   * resident memory of a single process
+   *
+   * @param process process handle
+   * @return memory in kilobytes or -1 if not available
+   */
+  public static long getResidentKb(ProcessHandle process) {
+    Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+    if (!Files.isReadable(status)) {
+      return -1;
+    }
+    try {
+      List<String> lines = Files.readAllLines(status);
+      for (String line : lines) {
+        if (line.startsWith(RSS_PREFIX)) {
+          // format is "VmRSS:     12345 kB"
+          return Long.parseLong(line.substring(RSS_PREFIX.length()).replace("kB", "").trim());
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      // process exited while reading
+    }
+    return -1;
+  }
+
+  /**
+   * summary resident memory of all processes started by the given one, for the current JVM those
+   * are drivers and browsers
+   *
+   * @param parent parent process
+   * @return memory in kilobytes or -1 if not available
+   */
+  public static long getDescendantsResidentKb(ProcessHandle parent) {
+    long total = -1;
+    for (ProcessHandle child : (Iterable<ProcessHandle>) parent.descendants()::iterator) {
+      long kb = getResidentKb(child);
+      if (kb >= 0) {
+        total = Math.max(total, 0) + kb;
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.driver;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import utam.utils.async.SharedPoller;
+
+/**
+ * Counts WebDriver commands by command type, and by page object method that sent them while
+ * attribution is on. Page object method is the outermost generated page object frame on the stack,
+ * i.e. the method called from the test, for example "LwcRecordLayoutImpl.getItem"; stack is walked
+ * only while attribution is on, for example while a command budget of a test is checked.
+ *
+ * <p>Commands sent while polling a wait condition are also counted separately, their number
+ * depends on how fast the page responds. Command is polling if it is sent by a condition of {@link
+ * SharedPoller} or, while attribution is on, from a FluentWait.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class CommandCounter implements CommandListener {
+
+  static final String NO_PAGE_OBJECT = "(test code)";
+  private static final String PAGE_OBJECTS_PACKAGE = ".pageobjects.";
+  private static final String FLUENT_WAIT = "org.openqa.selenium.support.ui.FluentWait";
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger polling = new AtomicInteger();
+  private volatile boolean attributing;
+  private final Map<String, Integer> byCommand = new TreeMap<>();
+  private final Map<String, Integer> byPageObjectMethod = new TreeMap<>();
+
+  /**
+   * outermost page object method on the stack of the current thread
+   *
+   * @return class simple name and method, for example "LwcRecordLayoutImpl.getItem", or "(test
+   *     code)" if command is not sent by a page object
+   */
+  public static String getPageObjectMethod() {
+    return STACK_WALKER.walk(frames -> getOutermostPageObjectMethod(frames, null));
+  }
+
+  private static String getOutermostPageObjectMethod(Stream<StackFrame> frames, boolean[] waits) {
+    StackFrame outermost = null;
+    Iterator<StackFrame> iterator = frames.iterator();
+    while (iterator.hasNext()) {
+      StackFrame frame = iterator.next();
+      if (frame.getClassName().contains(PAGE_OBJECTS_PACKAGE)) {
+        outermost = frame;
+      } else if (waits != null && frame.getClassName().equals(FLUENT_WAIT)) {
+        waits[0] = true;
+      }
+    }
+    if (outermost == null) {
+      return NO_PAGE_OBJECT;
+    }
+    String className = outermost.getClassName();
+    return className.substring(className.lastIndexOf('.') + 1) + "." + outermost.getMethodName();
+  }
+
+  /**
+   * turn attribution of commands to page object methods on or off, off by default
+   *
+   * @param attributing true to walk the stack of every command
+   */
+  public void setAttributing(boolean attributing) {
+    this.attributing = attributing;
+  }
+
+  @Override
+  public void beforeCommand(Command command) {
+    boolean isPolling = SharedPoller.isPolling();
+    String pageObjectMethod = null;
+    if (attributing) {
+      boolean[] waits = new boolean[1];
+      pageObjectMethod = STACK_WALKER.walk(frames -> getOutermostPageObjectMethod(frames, waits));
+      isPolling |= waits[0];
+    }
+    total.incrementAndGet();
+    if (isPolling) {
+      polling.incrementAndGet();
+    }
+    synchronized (this) {
+      byCommand.merge(command.getName(), 1, Integer::sum);
+      if (pageObjectMethod != null) {
+        byPageObjectMethod.merge(pageObjectMethod, 1, Integer::sum);
+      }
+    }
+  }
+
+  @Override
+  public void afterCommand(Command command, Response response, long durationNanos) {
+    // counted before execution to attribute command to the caller stack
+  }
+
+  /** reset all counts, for example before every test method */
+  public synchronized void reset() {
+    total.set(0);
+    polling.set(0);
+    byCommand.clear();
+    byPageObjectMethod.clear();
+  }
+
+  public int getTotal() {
+    return total.get();
+  }
+
+  /**
+   * commands sent while polling wait conditions, included in total
+   *
+   * @return number of commands
+   */
+  public int getPolling() {
+    return polling.get();
+  }
+
+  /**
+   * counts by command name, for example "findElement" or "executeScript"
+   *
+   * @return copy of the counts
+   */
+  public synchronized Map<String, Integer> getByCommand() {
+    return new TreeMap<>(byCommand);
+  }
+
+  /**
+   * counts by page object method that sent commands while attribution was on, commands sent
+   * directly from the test are counted as "(test code)"
+   *
+   * @return copy of the counts
+   */
+  public synchronized Map<String, Integer> getByPageObjectMethod() {
+    return new TreeMap<>(byPageObjectMethod);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.driver;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Listener notified about every WebDriver wire command, including commands sent by elements (click,
+ * getText) and by UTAM page objects
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public interface CommandListener {
+
+  /**
+   * called before command is sent to the driver
+   *
+   * @param command command with parameters
+   */
+  default void beforeCommand(Command command) {}
+
+  /**
+   * called after command returned or failed to execute
+   *
+   * @param command command with parameters
+   * @param response raw response before element conversion, null if command failed to execute
+   * @param durationNanos round trip time
+   */
+  void afterCommand(Command command, Response response, long durationNanos);
+}
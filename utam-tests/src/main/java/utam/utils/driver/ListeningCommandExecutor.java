@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.driver;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Decorator of the driver command executor that notifies listeners about every command. Installed
+ * into an existing driver, so it works same way for local, remote and Appium drivers.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ListeningCommandExecutor implements CommandExecutor {
+
+  private final CommandExecutor delegate;
+  private final CopyOnWriteArrayList<CommandListener> listeners = new CopyOnWriteArrayList<>();
+
+  public ListeningCommandExecutor(CommandExecutor delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * get executor installed into the driver, install it on first call
+   *
+   * @param driver driver instance, should extend RemoteWebDriver
+   * @return executor to add listeners to
+   */
+  public static synchronized ListeningCommandExecutor of(WebDriver driver) {
+    if (!(driver instanceof RemoteWebDriver)) {
+      throw new IllegalArgumentException(
+          "Command listeners require RemoteWebDriver, got " + driver.getClass().getName());
+    }
+    RemoteWebDriver remoteDriver = (RemoteWebDriver) driver;
+    CommandExecutor current = remoteDriver.getCommandExecutor();
+    if (current instanceof ListeningCommandExecutor) {
+      return (ListeningCommandExecutor) current;
+    }
+    ListeningCommandExecutor executor = new ListeningCommandExecutor(current);
+    try {
+      // setter is protected, there is no other way to decorate executor of a started session
+      Method setter =
+          RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+      setter.setAccessible(true);
+      setter.invoke(remoteDriver, executor);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Failed to install command listener", e);
+    }
+    return executor;
+  }
+
+  /**
+   * add listener, same instance is added only once, for example shared listener of a reused driver
+   *
+   * @param listener listener to notify
+   */
+  public void addListener(CommandListener listener) {
+    listeners.addIfAbsent(listener);
+  }
+
+  public void removeListener(CommandListener listener) {
+    listeners.remove(listener);
+  }
+
+  public CommandExecutor getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public Response execute(Command command) throws IOException {
+    for (CommandListener listener : listeners) {
+      listener.beforeCommand(command);
+    }
+    long start = System.nanoTime();
+    Response response = null;
+    try {
+      response = delegate.execute(command);
+      return response;
+    } finally {
+      long duration = System.nanoTime() - start;
+      for (CommandListener listener : listeners) {
+        listener.afterCommand(command, response, duration);
+      }
+    }
+  }
+}
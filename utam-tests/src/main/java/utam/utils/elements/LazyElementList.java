@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.elements;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Read-only list of elements matching a "returnAll" selector that finds elements only when they
+ * are used. {@link #size()} is answered by a count query without transferring elements, elements
+ * are fetched in pages of {@link #getPageSize()} on access and wrapped one page at a time, so
+ * memory and round trips scale with the part of the list that is actually used.
+ *
+ * <p>Count and pages are cached at first access, call {@link #refresh()} after the DOM changed.
+ * Example, same elements as UtamDevHome.getMenuItems(), scoped to root element of the page object:
+ * LazyElementList.of(driver, homePageRoot, List.of("header", ".menu", "li"), wrapper).size()
+ *
+ * <p>A chain of selectors is resolved like nested elements of a JSON spec: every selector but the
+ * last finds the first match inside the previous one. A single descendant selector such as "header
+ * .menu li" is not the same query, it also matches items of a second menu or header.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class LazyElementList<T> extends AbstractList<T> {
+
+  static final int DEFAULT_PAGE_SIZE = Integer.getInteger("utam.elementList.pageSize", 50);
+  // arguments: scope element or null, search in shadow root, parent selectors, css selector,
+  // page start, page end
+  private static final String FIND =
+      "var scope = arguments[0] || document;"
+          + "if (arguments[1]) { scope = scope.shadowRoot; }"
+          + "var parents = arguments[2];"
+          + "for (var i = 0; scope && i < parents.length; i++) {"
+          + "  scope = scope.querySelector(parents[i]);"
+          + "}"
+          + "var all = scope ? scope.querySelectorAll(arguments[3]) : [];"
+          + "if (arguments[4] < 0) { return all.length; }"
+          + "return [all.length, Array.prototype.slice.call(all, arguments[4], arguments[5])];";
+
+  private final JavascriptExecutor executor;
+  private final WebElement scope;
+  private final boolean inShadowRoot;
+  private final List<String> parents;
+  private final String css;
+  private final Function<WebElement, T> wrapper;
+  private final int pageSize;
+  private final Map<Integer, List<T>> pages = new HashMap<>();
+  private Integer count;
+  private int roundTrips;
+
+  LazyElementList(
+      WebDriver driver,
+      WebElement scope,
+      boolean inShadowRoot,
+      List<String> selectors,
+      Function<WebElement, T> wrapper,
+      int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size should be positive: " + pageSize);
+    }
+    if (selectors.isEmpty()) {
+      throw new IllegalArgumentException("Selector of the elements is not set");
+    }
+    this.executor = (JavascriptExecutor) driver;
+    this.scope = scope;
+    this.inShadowRoot = inShadowRoot;
+    this.parents = List.copyOf(selectors.subList(0, selectors.size() - 1));
+    this.css = selectors.get(selectors.size() - 1);
+    this.wrapper = wrapper;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * list of elements inside the scope element
+   *
+   * @param driver driver instance
+   * @param scope element to search in, null to search in the document
+   * @param css selector of the elements
+   * @param wrapper wraps found element, for example into a page object
+   * @param <T> type of the list elements
+   * @return lazy list
+   */
+  public static <T> LazyElementList<T> of(
+      WebDriver driver, WebElement scope, String css, Function<WebElement, T> wrapper) {
+    return of(driver, scope, List.of(css), wrapper);
+  }
+
+  /**
+   * list of elements found with a chain of selectors inside the scope element, same as a
+   * "returnAll" element nested in other elements of JSON spec
+   *
+   * @param driver driver instance
+   * @param scope element to search in, null to search in the document
+   * @param selectors selectors of the parent elements, first match of each is used, and selector
+   *     of the elements last
+   * @param wrapper wraps found element, for example into a page object
+   * @param <T> type of the list elements
+   * @return lazy list
+   */
+  public static <T> LazyElementList<T> of(
+      WebDriver driver, WebElement scope, List<String> selectors, Function<WebElement, T> wrapper) {
+    return new LazyElementList<>(driver, scope, false, selectors, wrapper, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * list of elements inside shadow root of the host, same as "shadow" elements in JSON spec
+   *
+   * @param driver driver instance
+   * @param host shadow host element
+   * @param css selector of the elements
+   * @param wrapper wraps found element, for example into a page object
+   * @param <T> type of the list elements
+   * @return lazy list
+   */
+  public static <T> LazyElementList<T> inShadowRoot(
+      WebDriver driver, WebElement host, String css, Function<WebElement, T> wrapper) {
+    return new LazyElementList<>(driver, host, true, List.of(css), wrapper, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * same list with another page size
+   *
+   * @param pageSize number of elements fetched in one round trip
+   * @return new lazy list, nothing is fetched yet
+   */
+  public LazyElementList<T> withPageSize(int pageSize) {
+    return new LazyElementList<>(
+        (WebDriver) executor, scope, inShadowRoot, getSelectors(), wrapper, pageSize);
+  }
+
+  private List<String> getSelectors() {
+    List<String> selectors = new ArrayList<>(parents);
+    selectors.add(css);
+    return selectors;
+  }
+
+  @Override
+  public synchronized int size() {
+    if (count == null) {
+      roundTrips++;
+      count =
+          ((Number) executor.executeScript(FIND, scope, inShadowRoot, parents, css, -1, -1))
+              .intValue();
+    }
+    return count;
+  }
+
+  @Override
+  public synchronized T get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException(
+          String.format("Index %d is out of bounds for %d elements '%s'", index, count, css));
+    }
+    List<T> page = pages.computeIfAbsent(index / pageSize, this::fetch);
+    return page.get(index % pageSize);
+  }
+
+  private List<T> fetch(int page) {
+    int start = page * pageSize;
+    roundTrips++;
+    List<?> result =
+        (List<?>)
+            executor.executeScript(
+                FIND, scope, inShadowRoot, parents, css, start, start + pageSize);
+    int found = ((Number) result.get(0)).intValue();
+    if (found != count) {
+      throw new IllegalStateException(
+          String.format(
+              "Number of elements '%s' changed from %d to %d, refresh the list",
+              css, count, found));
+    }
+    List<T> wrapped = new ArrayList<>();
+    for (Object element : (List<?>) result.get(1)) {
+      wrapped.add(wrapper.apply((WebElement) element));
+    }
+    return wrapped;
+  }
+
+  /** forget count and fetched elements, next access queries the DOM again */
+  public synchronized void refresh() {
+    count = null;
+    pages.clear();
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * number of round trips made by the list, to compare with finding all elements at once
+   *
+   * @return number of script calls
+   */
+  public synchronized int getRoundTrips() {
+    return roundTrips;
+  }
+
+  /**
+   * number of elements fetched and wrapped so far
+   *
+   * @return number of wrapped elements
+   */
+  public synchronized int getWrappedCount() {
+    return pages.values().stream().mapToInt(List::size).sum();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.elements;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import org.openqa.selenium.WebElement;
+import utam.core.framework.base.PageObject;
+
+/**
+ * Root element of a loaded page object as a WebElement, to scope scripts to the page object. Works
+ * for root page objects and for components found inside other page objects, for example the host
+ * element of wireGetObjectInfo that has no selector of its own.
+ *
+ * <p>Generated page objects don't expose their root, so the root is read with the getter of the
+ * framework base class and unwrapped through the element adapters to the Selenium element.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class RootElements {
+
+  private static final String ROOT_GETTER = "getRootElement";
+  // framework element wrappers, outermost first: page element, element adapter
+  private static final List<String> UNWRAP_GETTERS = Arrays.asList("getElement", "getWebElement");
+  private static final int MAX_UNWRAP_DEPTH = 4;
+
+  private RootElements() {}
+
+  /**
+   * root element of the page object
+   *
+   * @param pageObject loaded page object
+   * @return root element
+   */
+  public static WebElement of(PageObject pageObject) {
+    return unwrap(pageObject);
+  }
+
+  static WebElement unwrap(Object pageObject) {
+    Object element = invoke(pageObject, ROOT_GETTER);
+    for (int depth = 0; depth < MAX_UNWRAP_DEPTH; depth++) {
+      if (element instanceof WebElement) {
+        return (WebElement) element;
+      }
+      Object current = element;
+      element =
+          UNWRAP_GETTERS.stream()
+              .filter(name -> findMethod(current.getClass(), name) != null)
+              .findFirst()
+              .map(name -> invoke(current, name))
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Can't unwrap root element " + current.getClass().getName()));
+    }
+    throw new IllegalStateException(
+        "Root element of " + pageObject.getClass().getName() + " is not a WebElement");
+  }
+
+  private static Method findMethod(Class<?> type, String name) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        return current.getDeclaredMethod(name);
+      } catch (NoSuchMethodException e) {
+        // look in the superclass
+      }
+    }
+    return null;
+  }
+
+  private static Object invoke(Object target, String name) {
+    Method method = findMethod(target.getClass(), name);
+    if (method == null) {
+      throw new IllegalStateException(
+          String.format("%s has no method %s", target.getClass().getName(), name));
+    }
+    try {
+      // getters of the framework base classes are protected
+      method.setAccessible(true);
+      Object result = method.invoke(target);
+      if (result == null) {
+        throw new IllegalStateException(
+            String.format("%s.%s returned null", target.getClass().getName(), name));
+      }
+      return result;
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          String.format("Failed to call %s.%s", target.getClass().getName(), name), e);
+    }
+  }
+}
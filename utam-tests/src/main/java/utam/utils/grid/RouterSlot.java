@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.grid;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Driver endpoint registered in {@link SessionRouter}, for example a local chromedriver or Appium
+ * server, with its load and latency of proxied commands.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RouterSlot {
+
+  private final URI url;
+  private final int maxSessions;
+  private int activeSessions;
+  private long commands;
+  private long totalNanos;
+  private long maxNanos;
+
+  RouterSlot(URI url, int maxSessions) {
+    this.url = url;
+    this.maxSessions = maxSessions;
+  }
+
+  public URI getUrl() {
+    return url;
+  }
+
+  public int getMaxSessions() {
+    return maxSessions;
+  }
+
+  public synchronized int getActiveSessions() {
+    return activeSessions;
+  }
+
+  synchronized boolean hasCapacity() {
+    return activeSessions < maxSessions;
+  }
+
+  /** share of used capacity, slot with the lowest load gets the next session */
+  synchronized double getLoad() {
+    return (double) activeSessions / maxSessions;
+  }
+
+  synchronized void acquire() {
+    activeSessions++;
+  }
+
+  synchronized void release() {
+    activeSessions = Math.max(0, activeSessions - 1);
+  }
+
+  synchronized void recordCommand(long durationNanos) {
+    commands++;
+    totalNanos += durationNanos;
+    maxNanos = Math.max(maxNanos, durationNanos);
+  }
+
+  public synchronized long getCommands() {
+    return commands;
+  }
+
+  /**
+   * average round trip from router to the slot and back
+   *
+   * @return milliseconds or 0 if no commands were proxied
+   */
+  public synchronized double getAverageLatencyMillis() {
+    return commands == 0 ? 0 : totalNanos / 1e6 / commands;
+  }
+
+  public synchronized double getMaxLatencyMillis() {
+    return maxNanos / 1e6;
+  }
+
+  synchronized Map<String, Object> toStatus() {
+    Map<String, Object> status = new LinkedHashMap<>();
+    status.put("url", url.toString());
+    status.put("maxSessions", maxSessions);
+    status.put("activeSessions", activeSessions);
+    status.put("commands", commands);
+    status.put("averageLatencyMs", getAverageLatencyMillis());
+    status.put("maxLatencyMs", getMaxLatencyMillis());
+    return status;
+  }
+}
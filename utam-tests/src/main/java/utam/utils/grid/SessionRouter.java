@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.grid;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+/**
+ * Small WebDriver router that stands in for Selenium Grid on one machine. New session requests
+ * are placed on the registered driver slot with the lowest load, requests that don't fit wait in a
+ * queue; commands of a session are proxied to its slot as they are. Remote driver of a test points
+ * to the router url instead of starting a local driver.
+ *
+ * <p>Session that gets no commands for the idle timeout is deleted on its slot and the slot is
+ * released, so that a test that never quit its driver does not hold the slot forever.
+ *
+ * <p>GET /status returns queue depth, sessions deleted as idle, and sessions, commands and latency
+ * of every slot.
+ *
+ * <p>Can be started from command line with driver urls and max sessions per slot:
+ *
+ * <p>java -Dutam.router.idleTimeout=600 utam.utils.grid.SessionRouter 4444
+ * http://localhost:9515=2 http://localhost:9516=2
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SessionRouter implements AutoCloseable {
+
+  /** system property with router url, web tests use remote driver when it is set */
+  public static final String ROUTER_URL_PROPERTY = "utam.router.url";
+
+  /** system property with idle timeout of a session in seconds, 0 to keep idle sessions */
+  public static final String IDLE_TIMEOUT_PROPERTY = "utam.router.idleTimeout";
+
+  static final Duration DEFAULT_QUEUE_TIMEOUT = Duration.ofMinutes(5);
+  static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+  private static final int MAX_REAPED_SESSIONS = 100;
+  private static final String SESSION_PATH = "/session";
+  private static final String GRID_PREFIX = "/wd/hub";
+  private static final Json JSON = new Json();
+
+  private final HttpServer server;
+  private final ExecutorService handlers;
+  private final HttpClient client;
+  private final Duration queueTimeout;
+  private final Duration idleTimeout;
+  private final ScheduledExecutorService reaper;
+  private final List<RouterSlot> slots = new CopyOnWriteArrayList<>();
+  private final Map<String, RoutedSession> sessions = new ConcurrentHashMap<>();
+  // last sessions deleted as idle, oldest first
+  private final Map<String, Map<String, Object>> reapedSessions = new LinkedHashMap<>();
+  private long reapedCount;
+  private final Object capacity = new Object();
+  private int queueDepth;
+  private int maxQueueDepth;
+
+  SessionRouter(HttpServer server, Duration queueTimeout, Duration idleTimeout) {
+    this.server = server;
+    this.queueTimeout = queueTimeout;
+    this.idleTimeout = idleTimeout;
+    this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    this.handlers =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "utam-session-router");
+              thread.setDaemon(true);
+              return thread;
+            });
+    server.setExecutor(handlers);
+    server.createContext("/", this::handle);
+    server.start();
+    if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+      this.reaper = null;
+    } else {
+      this.reaper =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "utam-session-reaper");
+                thread.setDaemon(true);
+                return thread;
+              });
+      // check often enough that a session is not kept much longer than the timeout
+      long period = Math.max(1000, Math.min(idleTimeout.toMillis() / 2, 30_000));
+      reaper.scheduleWithFixedDelay(this::reapIdleSessions, period, period, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * start router on the port
+   *
+   * @param port port, 0 to pick a free one
+   * @param queueTimeout how long new session request waits for a free slot
+   * @return started router
+   * @throws IOException if port can't be bound
+   */
+  public static SessionRouter start(int port, Duration queueTimeout) throws IOException {
+    return start(port, queueTimeout, DEFAULT_IDLE_TIMEOUT);
+  }
+
+  /**
+   * start router on the port
+   *
+   * @param port port, 0 to pick a free one
+   * @param queueTimeout how long new session request waits for a free slot
+   * @param idleTimeout session without commands for this long is deleted, zero to keep it
+   * @return started router
+   * @throws IOException if port can't be bound
+   */
+  public static SessionRouter start(int port, Duration queueTimeout, Duration idleTimeout)
+      throws IOException {
+    return new SessionRouter(
+        HttpServer.create(new InetSocketAddress("localhost", port), 1024),
+        queueTimeout,
+        idleTimeout);
+  }
+
+  /**
+   * register driver endpoint
+   *
+   * @param url driver url, for example http://localhost:9515
+   * @param maxSessions max concurrent sessions of the slot
+   * @return this instance to chain
+   */
+  public SessionRouter addSlot(URI url, int maxSessions) {
+    slots.add(new RouterSlot(url, maxSessions));
+    synchronized (capacity) {
+      capacity.notifyAll();
+    }
+    return this;
+  }
+
+  public URI getUrl() {
+    return URI.create("http://localhost:" + server.getAddress().getPort());
+  }
+
+  public List<RouterSlot> getSlots() {
+    return Collections.unmodifiableList(slots);
+  }
+
+  /**
+   * number of new session requests waiting for a free slot
+   *
+   * @return queue depth
+   */
+  public int getQueueDepth() {
+    synchronized (capacity) {
+      return queueDepth;
+    }
+  }
+
+  /**
+   * max number of new session requests that waited at the same time
+   *
+   * @return max queue depth
+   */
+  public int getMaxQueueDepth() {
+    synchronized (capacity) {
+      return maxQueueDepth;
+    }
+  }
+
+  /**
+   * number of sessions deleted because they were idle longer than the timeout
+   *
+   * @return number of reaped sessions
+   */
+  public synchronized long getReapedCount() {
+    return reapedCount;
+  }
+
+  @Override
+  public void close() {
+    if (reaper != null) {
+      reaper.shutdownNow();
+    }
+    server.stop(0);
+    handlers.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      String path = exchange.getRequestURI().getRawPath();
+      if (path.startsWith(GRID_PREFIX)) {
+        path = path.substring(GRID_PREFIX.length());
+      }
+      if ("/status".equals(path)) {
+        respond(exchange, 200, JSON.toJson(getStatus()).getBytes(StandardCharsets.UTF_8));
+      } else if (SESSION_PATH.equals(path) && "POST".equals(exchange.getRequestMethod())) {
+        newSession(exchange, path);
+      } else if (path.startsWith(SESSION_PATH + "/")) {
+        proxy(exchange, path);
+      } else {
+        respondError(exchange, 404, "unknown command", "Unknown path " + path);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      respondError(exchange, 500, "unknown error", "Router is stopping");
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private Map<String, Object> getStatus() {
+    Map<String, Object> status = new LinkedHashMap<>();
+    List<Map<String, Object>> slotsStatus = new ArrayList<>();
+    slots.forEach(slot -> slotsStatus.add(slot.toStatus()));
+    synchronized (capacity) {
+      status.put("ready", slots.stream().anyMatch(RouterSlot::hasCapacity));
+      status.put("queueDepth", queueDepth);
+      status.put("maxQueueDepth", maxQueueDepth);
+    }
+    status.put("sessions", sessions.size());
+    status.put("idleTimeoutSeconds", idleTimeout.getSeconds());
+    synchronized (this) {
+      status.put("reapedCount", reapedCount);
+      status.put("reapedSessions", new ArrayList<>(reapedSessions.values()));
+    }
+    status.put("slots", slotsStatus);
+    return Collections.singletonMap("value", status);
+  }
+
+  /** wait for the slot with the lowest load that has capacity and take one session from it */
+  private RouterSlot acquireSlot() throws InterruptedException {
+    long deadline = System.nanoTime() + queueTimeout.toNanos();
+    synchronized (capacity) {
+      queueDepth++;
+      maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+      try {
+        while (true) {
+          RouterSlot slot =
+              slots.stream()
+                  .filter(RouterSlot::hasCapacity)
+                  .min(Comparator.comparingDouble(RouterSlot::getLoad))
+                  .orElse(null);
+          if (slot != null) {
+            slot.acquire();
+            return slot;
+          }
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            return null;
+          }
+          capacity.wait(Math.max(1, remaining / 1_000_000));
+        }
+      } finally {
+        queueDepth--;
+      }
+    }
+  }
+
+  private void releaseSlot(RouterSlot slot) {
+    slot.release();
+    synchronized (capacity) {
+      capacity.notifyAll();
+    }
+  }
+
+  private void newSession(HttpExchange exchange, String path)
+      throws IOException, InterruptedException {
+    byte[] body = readBody(exchange);
+    RouterSlot slot = acquireSlot();
+    if (slot == null) {
+      respondError(
+          exchange,
+          500,
+          "session not created",
+          "No free driver slot after " + queueTimeout.getSeconds() + " seconds");
+      return;
+    }
+    String sessionId = null;
+    try {
+      HttpResponse<byte[]> response;
+      try {
+        response = forward(exchange, slot, path, body);
+      } catch (IOException e) {
+        respondError(exchange, 500, "session not created", getUnreachableMessage(slot, e));
+        return;
+      }
+      sessionId = getSessionId(response.body());
+      if (sessionId != null) {
+        sessions.put(sessionId, new RoutedSession(slot));
+      }
+      respond(exchange, response.statusCode(), response.body());
+    } finally {
+      if (sessionId == null) {
+        releaseSlot(slot);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static String getSessionId(byte[] body) {
+    try {
+      Map<String, Object> response =
+          JSON.toType(new String(body, StandardCharsets.UTF_8), Json.MAP_TYPE);
+      // W3C response has session id in value, legacy protocol on top level
+      Object value = response.get("value");
+      if (value instanceof Map && ((Map<String, Object>) value).get("sessionId") != null) {
+        return ((Map<String, Object>) value).get("sessionId").toString();
+      }
+      Object legacy = response.get("sessionId");
+      Object status = response.get("status");
+      boolean failed = status instanceof Number && ((Number) status).intValue() != 0;
+      return legacy == null || failed ? null : legacy.toString();
+    } catch (JsonException | ClassCastException e) {
+      return null;
+    }
+  }
+
+  private void proxy(HttpExchange exchange, String path) throws IOException, InterruptedException {
+    String rest = path.substring(SESSION_PATH.length() + 1);
+    int slash = rest.indexOf('/');
+    String sessionId = slash < 0 ? rest : rest.substring(0, slash);
+    byte[] body = readBody(exchange);
+    RoutedSession session = sessions.get(sessionId);
+    if (session == null || !session.begin()) {
+      respondError(exchange, 404, "invalid session id", getUnknownSessionMessage(sessionId));
+      return;
+    }
+    HttpResponse<byte[]> response = null;
+    IOException unreachable = null;
+    try {
+      response = forward(exchange, session.slot, path, body);
+    } catch (IOException e) {
+      unreachable = e;
+    } finally {
+      session.end();
+    }
+    // slot is released even if its driver is gone, same as for reaped sessions
+    if (slash < 0
+        && "DELETE".equals(exchange.getRequestMethod())
+        && sessions.remove(sessionId, session)) {
+      releaseSlot(session.slot);
+    }
+    if (unreachable != null) {
+      respondError(
+          exchange, 500, "unknown error", getUnreachableMessage(session.slot, unreachable));
+      return;
+    }
+    respond(exchange, response.statusCode(), response.body());
+  }
+
+  private static String getUnreachableMessage(RouterSlot slot, IOException e) {
+    return String.format("Driver slot %s is not reachable: %s", slot.getUrl(), e);
+  }
+
+  private synchronized String getUnknownSessionMessage(String sessionId) {
+    Map<String, Object> reaped = reapedSessions.get(sessionId);
+    if (reaped == null) {
+      return "Unknown session " + sessionId;
+    }
+    return String.format(
+        "Session %s was deleted by router after %s seconds without commands",
+        sessionId, reaped.get("idleSeconds"));
+  }
+
+  /** delete sessions without commands for the idle timeout on their slots and release slots */
+  void reapIdleSessions() {
+    sessions.forEach(
+        (sessionId, session) -> {
+          long idleNanos = session.reap(idleTimeout.toNanos());
+          if (idleNanos < 0 || !sessions.remove(sessionId, session)) {
+            return;
+          }
+          Map<String, Object> reaped = new LinkedHashMap<>();
+          reaped.put("sessionId", sessionId);
+          reaped.put("url", session.slot.getUrl().toString());
+          reaped.put("idleSeconds", TimeUnit.NANOSECONDS.toSeconds(idleNanos));
+          synchronized (this) {
+            reapedCount++;
+            reapedSessions.put(sessionId, reaped);
+            if (reapedSessions.size() > MAX_REAPED_SESSIONS) {
+              reapedSessions.remove(reapedSessions.keySet().iterator().next());
+            }
+          }
+          try {
+            send(session.slot, "DELETE", SESSION_PATH + "/" + sessionId, null, new byte[0]);
+          } catch (IOException e) {
+            // driver is gone or can't delete the session, slot is released anyway
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            releaseSlot(session.slot);
+          }
+        });
+  }
+
+  private HttpResponse<byte[]> forward(
+      HttpExchange exchange, RouterSlot slot, String path, byte[] body)
+      throws IOException, InterruptedException {
+    return send(
+        slot, exchange.getRequestMethod(), path, exchange.getRequestURI().getRawQuery(), body);
+  }
+
+  private HttpResponse<byte[]> send(
+      RouterSlot slot, String method, String path, String query, byte[] body)
+      throws IOException, InterruptedException {
+    // keep path of the slot url, for example /wd/hub of Appium
+    String base = slot.getUrl().toString().replaceAll("/+$", "");
+    URI target = URI.create(base + path + (query == null ? "" : "?" + query));
+    HttpRequest request =
+        HttpRequest.newBuilder(target)
+            .method(
+                method,
+                body.length == 0
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(body))
+            .header("Content-Type", "application/json; charset=utf-8")
+            .build();
+    long start = System.nanoTime();
+    HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+    slot.recordCommand(System.nanoTime() - start);
+    return response;
+  }
+
+  private static byte[] readBody(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+    if (body.length > 0) {
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    }
+  }
+
+  private static void respondError(HttpExchange exchange, int status, String error, String message)
+      throws IOException {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("error", error);
+    value.put("message", message);
+    value.put("stacktrace", "");
+    respond(
+        exchange,
+        status,
+        JSON.toJson(Collections.singletonMap("value", value)).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** session placed on a slot, with time of its last command */
+  private static final class RoutedSession {
+
+    private final RouterSlot slot;
+    private long lastUsedNanos = System.nanoTime();
+    private int inFlight;
+    private boolean reaped;
+
+    RoutedSession(RouterSlot slot) {
+      this.slot = slot;
+    }
+
+    /** start a command, false if the session was already deleted as idle */
+    synchronized boolean begin() {
+      if (reaped) {
+        return false;
+      }
+      inFlight++;
+      lastUsedNanos = System.nanoTime();
+      return true;
+    }
+
+    synchronized void end() {
+      inFlight--;
+      lastUsedNanos = System.nanoTime();
+    }
+
+    /**
+     * mark the session deleted if it is idle, a running command such as a long page load is not
+     *
+     * @param timeoutNanos idle timeout
+     * @return how long the session was idle or -1 if it is still in use
+     */
+    synchronized long reap(long timeoutNanos) {
+      long idleNanos = System.nanoTime() - lastUsedNanos;
+      if (reaped || inFlight > 0 || idleNanos < timeoutNanos) {
+        return -1;
+      }
+      reaped = true;
+      return idleNanos;
+    }
+  }
+
+  /**
+   * start router from command line
+   *
+   * @param args port and driver urls, each with optional "=maxSessions", default is 1
+   * @throws IOException if port can't be bound
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Usage: SessionRouter <port> <driver url>[=max sessions] ...");
+    }
+    long idleSeconds =
+        Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT.getSeconds());
+    SessionRouter router =
+        start(Integer.parseInt(args[0]), DEFAULT_QUEUE_TIMEOUT, Duration.ofSeconds(idleSeconds));
+    for (int i = 1; i < args.length; i++) {
+      String[] slot = args[i].split("=");
+      router.addSlot(URI.create(slot[0]), slot.length > 1 ? Integer.parseInt(slot[1]) : 1);
+    }
+    System.out.println("Session router is listening on " + router.getUrl());
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a WebDriver command with the page object method that sent it, see
+ * {@link FlightRecorderListener}.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+@Name(DriverCommandEvent.NAME)
+@Label("WebDriver Command")
+@Category({"UTAM"})
+@Description("WebDriver command round trip, for example findElement, executeScript or click")
+public class DriverCommandEvent extends Event {
+
+  public static final String NAME = "utam.DriverCommand";
+
+  @Label("Command")
+  String command;
+
+  @Label("Page Object")
+  String pageObject;
+
+  @Label("Method")
+  String method;
+
+  @Label("Locator")
+  @Description("Selector of element lookup, beginning of the script or element id")
+  String locator;
+
+  @Label("Failed")
+  boolean failed;
+}
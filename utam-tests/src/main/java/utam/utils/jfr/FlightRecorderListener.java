@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.jfr;
+
+import java.util.Map;
+import jdk.jfr.EventType;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import utam.utils.driver.CommandCounter;
+import utam.utils.driver.CommandListener;
+
+/**
+ * Emits {@link DriverCommandEvent} for every WebDriver command. While there is no recording, only
+ * a check of a flag is done for every command; page object method is looked up on the stack only
+ * for recorded events.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class FlightRecorderListener implements CommandListener {
+
+  private static final FlightRecorderListener INSTANCE = new FlightRecorderListener();
+  private static final EventType EVENT_TYPE = EventType.getEventType(DriverCommandEvent.class);
+  private static final int MAX_SCRIPT_LENGTH = 80;
+
+  private final ThreadLocal<DriverCommandEvent> current = new ThreadLocal<>();
+
+  FlightRecorderListener() {}
+
+  /**
+   * listener is stateless between commands, same instance is shared by all drivers
+   *
+   * @return listener instance
+   */
+  public static FlightRecorderListener getInstance() {
+    return INSTANCE;
+  }
+
+  private static boolean isRecording() {
+    return EVENT_TYPE.isEnabled();
+  }
+
+  static String getLocator(Command command) {
+    Map<String, ?> parameters = command.getParameters();
+    if (parameters.containsKey("using")) {
+      return parameters.get("using") + ": " + parameters.get("value");
+    }
+    Object script = parameters.get("script");
+    if (script != null) {
+      String text = script.toString().trim();
+      return text.length() > MAX_SCRIPT_LENGTH
+          ? text.substring(0, MAX_SCRIPT_LENGTH) + "..."
+          : text;
+    }
+    Object element = parameters.get("id");
+    return element == null ? null : "element " + element;
+  }
+
+  @Override
+  public void beforeCommand(Command command) {
+    if (!isRecording()) {
+      return;
+    }
+    DriverCommandEvent event = new DriverCommandEvent();
+    event.command = command.getName();
+    String pageObjectMethod = CommandCounter.getPageObjectMethod();
+    int dot = pageObjectMethod.lastIndexOf('.');
+    event.pageObject = dot < 0 ? pageObjectMethod : pageObjectMethod.substring(0, dot);
+    event.method = dot < 0 ? null : pageObjectMethod.substring(dot + 1);
+    event.locator = getLocator(command);
+    current.set(event);
+    event.begin();
+  }
+
+  @Override
+  public void afterCommand(Command command, Response response, long durationNanos) {
+    DriverCommandEvent event = current.get();
+    if (event == null) {
+      return;
+    }
+    current.remove();
+    event.end();
+    event.failed =
+        response == null || (response.getStatus() != null && response.getStatus() != 0);
+    event.commit();
+  }
+}
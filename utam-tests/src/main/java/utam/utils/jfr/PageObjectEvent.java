@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for an operation of the test on a page object, for example load, login or
+ * wait. Event is committed only while a recording is running, otherwise it costs an allocation
+ * that JIT usually removes.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+@Name(PageObjectEvent.NAME)
+@Label("Page Object Operation")
+@Category({"UTAM"})
+@Description("Page object load, login, profile change or wait done by a test")
+public class PageObjectEvent extends Event {
+
+  public static final String NAME = "utam.PageObject";
+
+  @Label("Page Object")
+  String pageObject;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Timed Out")
+  boolean timedOut;
+
+  /**
+   * create and begin event, commit it when the operation is done
+   *
+   * @param pageObject page object class name
+   * @param operation operation, for example "load" or "waitForAbsence"
+   * @return started event
+   */
+  public static PageObjectEvent start(String pageObject, String operation) {
+    PageObjectEvent event = new PageObjectEvent();
+    if (event.isEnabled()) {
+      event.pageObject = pageObject;
+      event.operation = operation;
+      event.begin();
+    }
+    return event;
+  }
+
+  /**
+   * mark operation as failed with timeout
+   *
+   * @param timedOut true if operation failed with timeout
+   * @return this instance to chain
+   */
+  public PageObjectEvent setTimedOut(boolean timedOut) {
+    this.timedOut = timedOut;
+    return this;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.journal;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import utam.utils.driver.CommandListener;
+import utam.utils.driver.ListeningCommandExecutor;
+
+/**
+ * Records every WebDriver command with its raw response and latency into a compact gzipped binary
+ * log. Journal can be served back without a browser with {@link ReplayCommandExecutor} and
+ * summarized with {@link JournalReader}.
+ *
+ * <p>Format: header (magic, version, session id, capabilities JSON) followed by entries, see
+ * {@link JournalEntry}. Every entry is flushed, so journal of a crashed run is readable.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class CommandJournal implements CommandListener, Closeable {
+
+  static final String MAGIC = "UTAM-JOURNAL";
+  static final int VERSION = 1;
+
+  private final Path file;
+  private final ListeningCommandExecutor executor;
+  private final DataOutputStream out;
+  private final long start = System.nanoTime();
+  private int entries;
+
+  private CommandJournal(Path file, RemoteWebDriver driver) throws IOException {
+    this.file = file;
+    this.executor = ListeningCommandExecutor.of(driver);
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    this.out =
+        new DataOutputStream(
+            new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), true));
+    out.writeUTF(MAGIC);
+    out.writeInt(VERSION);
+    out.writeUTF(String.valueOf(driver.getSessionId()));
+    JournalEntry.writeString(out, new Json().toJson(driver.getCapabilities().asMap()));
+    out.flush();
+  }
+
+  /**
+   * start recording commands of the driver
+   *
+   * @param driver driver instance
+   * @param file journal file, overwritten if exists
+   * @return journal, should be closed after driver quit
+   */
+  public static CommandJournal record(RemoteWebDriver driver, Path file) {
+    try {
+      CommandJournal journal = new CommandJournal(file, driver);
+      journal.executor.addListener(journal);
+      return journal;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create command journal " + file, e);
+    }
+  }
+
+  @Override
+  public synchronized void afterCommand(Command command, Response response, long durationNanos) {
+    try {
+      JournalEntry.of(
+              System.nanoTime() - start - durationNanos,
+              durationNanos,
+              command.getName(),
+              command.getParameters(),
+              response)
+          .write(out);
+      out.flush();
+      entries++;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write command journal " + file, e);
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  public synchronized int getEntriesCount() {
+    return entries;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    executor.removeListener(this);
+    out.close();
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.journal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * One recorded WebDriver command: name, parameters, raw response and latency. Parameters and
+ * response value are kept as JSON, exactly as they were sent over the wire.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class JournalEntry {
+
+  private static final Json JSON = new Json();
+
+  private final long offsetNanos;
+  private final long durationNanos;
+  private final String command;
+  private final String parameters;
+  private final boolean failed;
+  private final int status;
+  private final String state;
+  private final String value;
+
+  JournalEntry(
+      long offsetNanos,
+      long durationNanos,
+      String command,
+      String parameters,
+      boolean failed,
+      int status,
+      String state,
+      String value) {
+    this.offsetNanos = offsetNanos;
+    this.durationNanos = durationNanos;
+    this.command = command;
+    this.parameters = parameters;
+    this.failed = failed;
+    this.status = status;
+    this.state = state;
+    this.value = value;
+  }
+
+  static JournalEntry of(
+      long offsetNanos, long durationNanos, String command, Object parameters, Response response) {
+    String parametersJson = JSON.toJson(parameters);
+    if (response == null) {
+      return new JournalEntry(
+          offsetNanos, durationNanos, command, parametersJson, true, -1, "", "null");
+    }
+    return new JournalEntry(
+        offsetNanos,
+        durationNanos,
+        command,
+        parametersJson,
+        false,
+        response.getStatus() == null ? -1 : response.getStatus(),
+        response.getState() == null ? "" : response.getState(),
+        JSON.toJson(response.getValue()));
+  }
+
+  // writeUTF is limited to 64K, page source and element text can be longer
+  static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static JournalEntry read(DataInputStream in) throws IOException {
+    return new JournalEntry(
+        in.readLong(),
+        in.readLong(),
+        in.readUTF(),
+        readString(in),
+        in.readBoolean(),
+        in.readInt(),
+        in.readUTF(),
+        readString(in));
+  }
+
+  void write(DataOutputStream out) throws IOException {
+    out.writeLong(offsetNanos);
+    out.writeLong(durationNanos);
+    out.writeUTF(command);
+    writeString(out, parameters);
+    out.writeBoolean(failed);
+    out.writeInt(status);
+    out.writeUTF(state);
+    writeString(out, value);
+  }
+
+  Response toResponse(String sessionId) {
+    Response response = new Response();
+    response.setSessionId(sessionId);
+    response.setStatus(status < 0 ? null : status);
+    response.setState(state.isEmpty() ? null : state);
+    response.setValue(JSON.toType(value, Json.OBJECT_TYPE));
+    return response;
+  }
+
+  /**
+   * time since start of the recording
+   *
+   * @return nanoseconds
+   */
+  public long getOffsetNanos() {
+    return offsetNanos;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  public String getCommand() {
+    return command;
+  }
+
+  public String getParameters() {
+    return parameters;
+  }
+
+  /**
+   * command failed to execute, for example because driver process died
+   *
+   * @return true if there was no response
+   */
+  public boolean isFailed() {
+    return failed;
+  }
+}
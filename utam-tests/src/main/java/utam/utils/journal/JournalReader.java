@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.journal;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Reads journal written by {@link CommandJournal}. Can be run from command line to print command
+ * counts and latency per command type, which is handy to compare two runs:
+ *
+ * <p>java utam.utils.journal.JournalReader target/command-journal/RecordUpdateTests.journal
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class JournalReader implements Closeable {
+
+  private final DataInputStream in;
+  private final String sessionId;
+  private final Map<String, Object> capabilities;
+
+  public JournalReader(Path file) throws IOException {
+    this.in =
+        new DataInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))));
+    String magic = in.readUTF();
+    int version = in.readInt();
+    if (!CommandJournal.MAGIC.equals(magic) || version != CommandJournal.VERSION) {
+      in.close();
+      throw new IOException(
+          String.format("File '%s' is not a command journal version %d", file, version));
+    }
+    this.sessionId = in.readUTF();
+    this.capabilities = new Json().toType(JournalEntry.readString(in), Json.MAP_TYPE);
+  }
+
+  /**
+   * read next entry
+   *
+   * @return entry or null if there are no more entries
+   * @throws IOException if file can't be read
+   */
+  public JournalEntry next() throws IOException {
+    try {
+      return JournalEntry.read(in);
+    } catch (EOFException e) {
+      // end of journal or last entry was not completely written by crashed run
+      return null;
+    }
+  }
+
+  public String getSessionId() {
+    return sessionId;
+  }
+
+  public Map<String, Object> getCapabilities() {
+    return capabilities;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * print summary of the journal: number of commands and latency per command type
+   *
+   * @param args path to the journal
+   * @throws IOException if file can't be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: JournalReader <journal file>");
+    }
+    Map<String, long[]> summary = new TreeMap<>();
+    long total = 0;
+    try (JournalReader reader = new JournalReader(Paths.get(args[0]))) {
+      JournalEntry entry;
+      while ((entry = reader.next()) != null) {
+        long[] counts = summary.computeIfAbsent(entry.getCommand(), name -> new long[2]);
+        counts[0]++;
+        counts[1] += entry.getDurationNanos();
+        total++;
+      }
+    }
+    System.out.println(String.format("%-30s %8s %12s", "command", "count", "latency ms"));
+    summary.forEach(
+        (command, counts) ->
+            System.out.println(
+                String.format("%-30s %8d %12d", command, counts[0], counts[1] / 1_000_000)));
+    System.out.println(String.format("%-30s %8d", "total", total));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Serves responses from a command journal instead of a browser. Commands are expected in the same
+ * order as they were recorded, so test and page objects logic runs offline at CPU speed; if test
+ * sends a different command, replay fails with the position of divergence.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ReplayCommandExecutor implements CommandExecutor {
+
+  private final JournalReader reader;
+  private int position;
+
+  public ReplayCommandExecutor(JournalReader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * create driver that replays the journal
+   *
+   * @param journal journal file
+   * @return driver instance, session id and capabilities are same as recorded
+   */
+  public static RemoteWebDriver createDriver(Path journal) {
+    try {
+      JournalReader reader = new JournalReader(journal);
+      return new RemoteWebDriver(
+          new ReplayCommandExecutor(reader), new DesiredCapabilities(reader.getCapabilities()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open command journal " + journal, e);
+    }
+  }
+
+  @Override
+  public Response execute(Command command) throws IOException {
+    if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+      // session was created before recording started
+      Response response = new Response();
+      response.setSessionId(reader.getSessionId());
+      response.setStatus(0);
+      response.setValue(reader.getCapabilities());
+      return response;
+    }
+    JournalEntry entry = reader.next();
+    if (entry == null) {
+      if (DriverCommand.QUIT.equals(command.getName())) {
+        reader.close();
+        return new Response();
+      }
+      throw new IllegalStateException(
+          String.format(
+              "Replay reached end of journal at command #%d '%s'", position, command.getName()));
+    }
+    if (!entry.getCommand().equals(command.getName())) {
+      throw new IllegalStateException(
+          String.format(
+              "Replay diverged at command #%d: recorded '%s' with %s, test sent '%s' with %s",
+              position,
+              entry.getCommand(),
+              entry.getParameters(),
+              command.getName(),
+              command.getParameters()));
+    }
+    position++;
+    if (entry.isFailed()) {
+      throw new IOException(
+          String.format("Command #%d '%s' failed during recording", position, entry.getCommand()));
+    }
+    if (DriverCommand.QUIT.equals(command.getName())) {
+      reader.close();
+    }
+    return entry.toResponse(reader.getSessionId());
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.mobile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Saves and loads Android emulator snapshots with "adb emu avd snapshot" console commands. Adb is
+ * taken from ANDROID_HOME or PATH.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+class EmulatorSnapshots {
+
+  private static final String EMULATOR_PREFIX = "emulator-";
+  private static final long TIMEOUT_SECONDS = 120;
+
+  private final String adb;
+  private final String serial;
+
+  private EmulatorSnapshots(String adb, String serial) {
+    this.adb = adb;
+    this.serial = serial;
+  }
+
+  /**
+   * snapshots for the device of the driver
+   *
+   * @param driver driver instance
+   * @return snapshots or null if device is not an Android emulator
+   */
+  static EmulatorSnapshots of(WebDriver driver) {
+    String serial = MobileSession.getCapability(driver, "deviceUDID");
+    if (serial == null) {
+      serial = MobileSession.getCapability(driver, "udid");
+    }
+    if (serial == null || !serial.startsWith(EMULATOR_PREFIX)) {
+      return null;
+    }
+    String androidHome = System.getenv("ANDROID_HOME");
+    String adb =
+        androidHome == null
+            ? "adb"
+            : new File(new File(androidHome, "platform-tools"), "adb").getPath();
+    return new EmulatorSnapshots(adb, serial);
+  }
+
+  void save(String name) {
+    String output = run("save", name);
+    if (isRefused(output)) {
+      throw new IllegalStateException(
+          String.format("Failed emulator snapshot save '%s': %s", name, output));
+    }
+  }
+
+  /**
+   * load snapshot, it can be saved by another JVM or an earlier run on the same emulator
+   *
+   * @param name name of the snapshot
+   * @return false if emulator refused to load it, for example there is no snapshot with the name
+   */
+  boolean load(String name) {
+    return !isRefused(run("load", name));
+  }
+
+  // emulator console replies "OK" on success and "KO: reason" on failure
+  private static boolean isRefused(String output) {
+    return output.contains("KO");
+  }
+
+  private String run(String action, String name) {
+    ProcessBuilder builder =
+        new ProcessBuilder(adb, "-s", serial, "emu", "avd", "snapshot", action, name)
+            .redirectErrorStream(true);
+    try {
+      Process process = builder.start();
+      if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+        throw new IllegalStateException(
+            String.format("Timeout on emulator snapshot %s '%s'", action, name));
+      }
+      String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      // adb may exit with error when console refuses the command, only its own failures throw
+      if (process.exitValue() != 0 && !isRefused(output)) {
+        throw new IllegalStateException(
+            String.format("Failed emulator snapshot %s '%s': %s", action, name, output.trim()));
+      }
+      return output.trim();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to run " + adb, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.mobile;
+
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.service.local.AppiumDriverLocalService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utam.utils.process.DriverProcessRegistry;
+
+/**
+ * Appium server, driver and installed app reused by all mobile test classes of the platform.
+ * Session is created once per key and stopped when JVM exits, before {@link DriverProcessRegistry}
+ * kills the Appium process. Between test classes app state is reset by restarting the app, opening
+ * a deep link or restoring a named state snapshot, all of them much faster than reinstalling the
+ * app.
+ *
+ * <p>Named states: {@link #saveState(String)} after onboarding (EULA, connection setup) lets later
+ * tests skip it. On Android emulator state is saved as an emulator snapshot named after the app,
+ * so it is found by later runs on the same emulator as well; on other devices snapshots are not
+ * supported and test should repeat the steps.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class MobileSession {
+
+  private static final Map<String, MobileSession> SESSIONS = new ConcurrentHashMap<>();
+
+  private final AppiumDriverLocalService service;
+  private final WebDriver driver;
+  private final String bundleId;
+  private final EmulatorSnapshots snapshots;
+
+  MobileSession(AppiumDriverLocalService service, WebDriver driver, String bundleId) {
+    this.service = service;
+    this.driver = driver;
+    this.bundleId = bundleId;
+    this.snapshots = EmulatorSnapshots.of(driver);
+  }
+
+  /**
+   * get session for the key, Appium server and driver are started on first call
+   *
+   * @param key session key, for example platform name
+   * @param serviceFactory starts Appium server
+   * @param driverFactory creates driver connected to the server
+   * @param bundleId application package (Android) or bundle id (iOS)
+   * @return shared session
+   */
+  public static MobileSession get(
+      String key,
+      Supplier<AppiumDriverLocalService> serviceFactory,
+      Function<AppiumDriverLocalService, WebDriver> driverFactory,
+      String bundleId) {
+    return SESSIONS.computeIfAbsent(
+        key,
+        sessionKey -> {
+          AppiumDriverLocalService service = serviceFactory.get();
+          MobileSession session =
+              new MobileSession(service, driverFactory.apply(service), bundleId);
+          // one shutdown hook for both, driver quits before Appium process is killed
+          DriverProcessRegistry.getInstance().beforeShutdown(session::stop);
+          return session;
+        });
+  }
+
+  public WebDriver getDriver() {
+    return driver;
+  }
+
+  /** restart the app without reinstalling, app data is kept */
+  public void restartApp() {
+    InteractsWithApps apps = (InteractsWithApps) driver;
+    apps.terminateApp(bundleId);
+    apps.activateApp(bundleId);
+  }
+
+  /** clear app data and restart the app, same state as after install */
+  public void resetApp() {
+    ((InteractsWithApps) driver).resetApp();
+  }
+
+  /**
+   * open deep link in the app, faster than navigating through the app UI
+   *
+   * @param url deep link url
+   */
+  public void openDeepLink(String url) {
+    Map<String, Object> args = new HashMap<>();
+    args.put("url", url);
+    // Android driver expects package, iOS driver expects bundleId
+    args.put("package", bundleId);
+    args.put("bundleId", bundleId);
+    ((JavascriptExecutor) driver).executeScript("mobile: deepLink", args);
+  }
+
+  /**
+   * check if device supports state snapshots
+   *
+   * @return true for Android emulator
+   */
+  public boolean isSnapshotSupported() {
+    return snapshots != null;
+  }
+
+  /**
+   * save current state of the device and app with a name
+   *
+   * @param name name of the state, for example "login"
+   * @return true if state was saved, false if snapshots are not supported
+   */
+  public synchronized boolean saveState(String name) {
+    if (snapshots == null) {
+      return false;
+    }
+    snapshots.save(getSnapshotName(name));
+    return true;
+  }
+
+  /**
+   * restore state saved in this or earlier session on the same emulator, app is restarted after
+   * restore
+   *
+   * @param name name of the state
+   * @return true if state was restored, false if it was not saved or snapshots are not supported
+   */
+  public synchronized boolean restoreState(String name) {
+    if (snapshots == null || !snapshots.load(getSnapshotName(name))) {
+      return false;
+    }
+    restartApp();
+    return true;
+  }
+
+  // emulator snapshots are shared by everything that runs on the emulator
+  private String getSnapshotName(String name) {
+    return "utam-" + bundleId + "-" + name;
+  }
+
+  private void stop() {
+    try {
+      driver.quit();
+    } finally {
+      if (service != null) {
+        service.stop();
+      }
+    }
+  }
+
+  static String getCapability(WebDriver driver, String name) {
+    if (!(driver instanceof HasCapabilities)) {
+      return null;
+    }
+    Object value = ((HasCapabilities) driver).getCapabilities().getCapability(name);
+    return value == null ? null : value.toString();
+  }
+}
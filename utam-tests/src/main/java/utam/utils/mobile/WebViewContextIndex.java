@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.mobile;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.openqa.selenium.ContextAware;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import utam.utils.driver.CommandListener;
+import utam.utils.driver.ListeningCommandExecutor;
+
+/**
+ * Remembers which context and window handle show the WebView with a given title, so that switch to
+ * a known WebView takes two commands and a title check instead of a scan of all contexts and
+ * windows. One scan indexes titles of all WebViews at once.
+ *
+ * <p>Cached location is validated by title before use; index is cleared when a navigation or
+ * window close command is sent through the driver. Location of a WebView found by the framework is
+ * taken from the context switch, window switch and title commands it sent, without extra commands.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class WebViewContextIndex implements CommandListener {
+
+  static final String NATIVE_CONTEXT = "NATIVE_APP";
+  // MobileCommand.SWITCH_TO_CONTEXT of Appium client, parameter "name"
+  static final String SWITCH_TO_CONTEXT = "switchToContext";
+
+  private final WebDriver driver;
+  private final ContextAware contexts;
+  private final Map<String, Location> locations = new HashMap<>();
+  private int hits;
+  private int scans;
+  // context, window and title seen in commands sent through the driver
+  private String observedContext;
+  private String observedWindow;
+  private String observedTitle;
+  private boolean switched;
+
+  WebViewContextIndex(WebDriver driver) {
+    this.driver = driver;
+    this.contexts = (ContextAware) driver;
+  }
+
+  /**
+   * create index for the driver and subscribe it to navigation commands
+   *
+   * @param driver mobile driver
+   * @return index or null if driver does not support contexts
+   */
+  public static WebViewContextIndex of(WebDriver driver) {
+    if (!(driver instanceof ContextAware)) {
+      return null;
+    }
+    WebViewContextIndex index = new WebViewContextIndex(driver);
+    if (driver instanceof RemoteWebDriver) {
+      ListeningCommandExecutor.of(driver).addListener(index);
+    }
+    return index;
+  }
+
+  private static boolean isNavigation(String commandName) {
+    return DriverCommand.GET.equals(commandName)
+        || DriverCommand.GO_BACK.equals(commandName)
+        || DriverCommand.GO_FORWARD.equals(commandName)
+        || DriverCommand.REFRESH.equals(commandName)
+        || DriverCommand.CLOSE.equals(commandName);
+  }
+
+  private static boolean isSuccess(Response response) {
+    return response != null && (response.getStatus() == null || response.getStatus() == 0);
+  }
+
+  @Override
+  public synchronized void afterCommand(Command command, Response response, long durationNanos) {
+    String name = command.getName();
+    if (isNavigation(name)) {
+      invalidate();
+      observedTitle = null;
+    }
+    if (!isSuccess(response)) {
+      return;
+    }
+    if (SWITCH_TO_CONTEXT.equals(name)) {
+      observedContext = (String) command.getParameters().get("name");
+      observedWindow = null;
+      observedTitle = null;
+      switched = true;
+    } else if (DriverCommand.SWITCH_TO_WINDOW.equals(name)) {
+      observedWindow = (String) command.getParameters().get("handle");
+      observedTitle = null;
+      switched = true;
+    } else if (DriverCommand.GET_TITLE.equals(name)) {
+      observedTitle = String.valueOf(response.getValue());
+    }
+  }
+
+  /** forget all known locations, for example after navigation in native part of the app */
+  public synchronized void invalidate() {
+    locations.clear();
+  }
+
+  /**
+   * switch to the WebView with the title if its location is known and still shows this title
+   *
+   * @param title title of the WebView page
+   * @return true if switched, false if location is unknown or stale
+   */
+  public synchronized boolean switchToKnownWebView(String title) {
+    Location known = locations.get(title);
+    if (known == null) {
+      return false;
+    }
+    try {
+      if (title.equals(known.switchTo())) {
+        hits++;
+        return true;
+      }
+    } catch (WebDriverException e) {
+      // context or window is gone
+    }
+    locations.remove(title);
+    return false;
+  }
+
+  /**
+   * switch to the WebView with the title, scan all contexts if its location is unknown
+   *
+   * @param title title of the WebView page
+   * @return true if WebView was found
+   */
+  public synchronized boolean switchToWebView(String title) {
+    if (switchToKnownWebView(title)) {
+      return true;
+    }
+    scans++;
+    scan();
+    Location found = locations.get(title);
+    if (found == null) {
+      return false;
+    }
+    found.switchTo();
+    return true;
+  }
+
+  /** start watching context and window switches, for example before the framework loads */
+  public synchronized void watchSwitches() {
+    switched = false;
+  }
+
+  /**
+   * remember location of the WebView with the title if the driver was switched to it since {@link
+   * #watchSwitches()} and its title was read there; no commands are sent unless only the context
+   * was switched, then current window handle is requested
+   *
+   * @param title title of the WebView page
+   * @return true if location is remembered
+   */
+  public synchronized boolean rememberSwitched(String title) {
+    if (!switched
+        || observedContext == null
+        || NATIVE_CONTEXT.equals(observedContext)
+        || !title.equals(observedTitle)) {
+      return false;
+    }
+    String window = observedWindow == null ? driver.getWindowHandle() : observedWindow;
+    locations.put(title, new Location(observedContext, window));
+    return true;
+  }
+
+  public synchronized boolean isKnown(String title) {
+    return locations.containsKey(title);
+  }
+
+  /** switch to native context */
+  public void switchToNative() {
+    if (!NATIVE_CONTEXT.equals(contexts.getContext())) {
+      contexts.context(NATIVE_CONTEXT);
+    }
+  }
+
+  private void scan() {
+    locations.clear();
+    Set<String> contextHandles = contexts.getContextHandles();
+    for (String context : contextHandles) {
+      if (NATIVE_CONTEXT.equals(context)) {
+        continue;
+      }
+      contexts.context(context);
+      for (String window : driver.getWindowHandles()) {
+        try {
+          driver.switchTo().window(window);
+          // first location wins, same as the order of scan by the framework
+          locations.putIfAbsent(driver.getTitle(), new Location(context, window));
+        } catch (WebDriverException e) {
+          // window closed while scanning
+        }
+      }
+    }
+  }
+
+  /**
+   * number of switches served from the index
+   *
+   * @return number of hits
+   */
+  public synchronized int getHits() {
+    return hits;
+  }
+
+  /**
+   * number of switches that needed a scan of all contexts
+   *
+   * @return number of scans
+   */
+  public synchronized int getScans() {
+    return scans;
+  }
+
+  private class Location {
+
+    private final String context;
+    private final String window;
+
+    Location(String context, String window) {
+      this.context = context;
+      this.window = window;
+    }
+
+    String switchTo() {
+      if (!context.equals(contexts.getContext())) {
+        contexts.context(context);
+      }
+      driver.switchTo().window(window);
+      return driver.getTitle();
+    }
+  }
+}
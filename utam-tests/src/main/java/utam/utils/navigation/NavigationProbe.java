@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.navigation;
+
+import java.util.Map;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Collects navigation timing from the browser every time a test loads a root page object after
+ * navigation. Navigation is either announced by the test (navigation by URL) or detected from a
+ * changed URL (for example after clickAndWaitForUrl). Enabled with system property
+ * "utam.navigation.timing=true".
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class NavigationProbe {
+
+  public static final String ENABLED_PROPERTY = "utam.navigation.timing";
+
+  // PerformanceNavigationTiming with fallback to legacy performance.timing, EPT is best effort
+  private static final String COLLECT_SCRIPT =
+      "var p = window.performance, r = {url: location.href, timeOrigin: -1, ept: -1};"
+          + "if (!p) return r;"
+          + "var n = p.getEntriesByType ? p.getEntriesByType('navigation')[0] : null;"
+          + "var t = p.timing;"
+          + "r.timeOrigin = p.timeOrigin || t.navigationStart;"
+          + "if (n) {"
+          + "  r.dns = n.domainLookupEnd - n.domainLookupStart;"
+          + "  r.connect = n.connectEnd - n.connectStart;"
+          + "  r.ttfb = n.responseStart - n.requestStart;"
+          + "  r.domContentLoaded = n.domContentLoadedEventEnd;"
+          + "  r.loadEvent = n.loadEventEnd;"
+          + "} else if (t) {"
+          + "  r.dns = t.domainLookupEnd - t.domainLookupStart;"
+          + "  r.connect = t.connectEnd - t.connectStart;"
+          + "  r.ttfb = t.responseStart - t.requestStart;"
+          + "  r.domContentLoaded = t.domContentLoadedEventEnd - t.navigationStart;"
+          + "  r.loadEvent = t.loadEventEnd > 0 ? t.loadEventEnd - t.navigationStart : -1;"
+          + "}"
+          + "try {"
+          + "  var tx = window.$A && $A.metricsService && $A.metricsService.getCurrentPageTransaction();"
+          + "  if (tx && tx.config && tx.config.context && tx.config.context.ept) {"
+          + "    r.ept = tx.config.context.ept;"
+          + "  }"
+          + "} catch (e) {}"
+          + "return r;";
+
+  private final JavascriptExecutor executor;
+  private final NavigationTimingLog log;
+  private String pendingLabel;
+  private long pendingSince = System.currentTimeMillis();
+  private String lastUrl = "";
+  private double lastTimeOrigin = -1;
+
+  public NavigationProbe(WebDriver driver, NavigationTimingLog log) {
+    this.executor = (JavascriptExecutor) driver;
+    this.log = log;
+  }
+
+  /**
+   * check if navigation timing is enabled for the run
+   *
+   * @return true if system property is set
+   */
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(ENABLED_PROPERTY);
+  }
+
+  /**
+   * mark start of the navigation, next loaded page object will be recorded with this label
+   *
+   * @param label label to correlate navigation with, for example record type name
+   */
+  public void navigationStarted(String label) {
+    this.pendingLabel = label;
+    this.pendingSince = System.currentTimeMillis();
+  }
+
+  /**
+   * collect timing after root page object was loaded, nothing is recorded if page did not change
+   * since last sample
+   *
+   * @param pageObjectType type of the loaded page object
+   * @return recorded sample or null if nothing was recorded
+   */
+  @SuppressWarnings("unchecked")
+  public NavigationTiming pageObjectLoaded(Class<?> pageObjectType) {
+    final Map<String, Object> sample;
+    try {
+      sample = (Map<String, Object>) executor.executeScript(COLLECT_SCRIPT);
+    } catch (WebDriverException e) {
+      // probe should never fail a test, for example if page is in the middle of unload
+      return null;
+    }
+    long now = System.currentTimeMillis();
+    String url = String.valueOf(sample.get("url"));
+    double timeOrigin = ((Number) sample.get("timeOrigin")).doubleValue();
+    boolean newDocument = timeOrigin != lastTimeOrigin;
+    if (pendingLabel == null && !newDocument && url.equals(lastUrl)) {
+      pendingSince = now;
+      return null;
+    }
+    NavigationTiming timing =
+        new NavigationTiming(
+            pendingLabel == null ? "" : pendingLabel,
+            pageObjectType.getSimpleName(),
+            !newDocument,
+            now - pendingSince,
+            sample);
+    log.write(timing);
+    lastUrl = url;
+    lastTimeOrigin = timeOrigin;
+    pendingLabel = null;
+    pendingSince = now;
+    return timing;
+  }
+}
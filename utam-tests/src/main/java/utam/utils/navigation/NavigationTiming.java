@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.navigation;
+
+import java.util.Map;
+
+/**
+ * One sample of navigation timing: what the browser and Lightning report about a page load, paired
+ * with the page object the test loaded next and the time the test spent getting there. All
+ * durations are in milliseconds, -1 means the value was not available.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class NavigationTiming {
+
+  static final String CSV_HEADER =
+      "timestamp,label,pageObject,url,softNavigation,testElapsed,dns,connect,ttfb,"
+          + "domContentLoaded,loadEvent,ept";
+
+  private final long timestamp;
+  private final String label;
+  private final String pageObject;
+  private final String url;
+  private final boolean softNavigation;
+  private final long testElapsed;
+  private final long dns;
+  private final long connect;
+  private final long ttfb;
+  private final long domContentLoaded;
+  private final long loadEvent;
+  private final long ept;
+
+  NavigationTiming(
+      String label,
+      String pageObject,
+      boolean softNavigation,
+      long testElapsed,
+      Map<String, Object> browserSample) {
+    this.timestamp = System.currentTimeMillis();
+    this.label = label;
+    this.pageObject = pageObject;
+    this.url = String.valueOf(browserSample.get("url"));
+    this.softNavigation = softNavigation;
+    this.testElapsed = testElapsed;
+    // document timings are only meaningful for a new document, SPA transitions reuse the old one
+    this.dns = softNavigation ? -1 : getMillis(browserSample, "dns");
+    this.connect = softNavigation ? -1 : getMillis(browserSample, "connect");
+    this.ttfb = softNavigation ? -1 : getMillis(browserSample, "ttfb");
+    this.domContentLoaded = softNavigation ? -1 : getMillis(browserSample, "domContentLoaded");
+    this.loadEvent = softNavigation ? -1 : getMillis(browserSample, "loadEvent");
+    this.ept = getMillis(browserSample, "ept");
+  }
+
+  private static long getMillis(Map<String, Object> sample, String key) {
+    Object value = sample.get(key);
+    return value instanceof Number ? Math.round(((Number) value).doubleValue()) : -1;
+  }
+
+  private static String escapeCsv(String value) {
+    if (value.contains(",") || value.contains("\"")) {
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    return value;
+  }
+
+  private static String escapeJson(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public String getPageObject() {
+    return pageObject;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public boolean isSoftNavigation() {
+    return softNavigation;
+  }
+
+  /**
+   * time measured on the test side between navigation request and loaded page object, includes
+   * UTAM waits
+   *
+   * @return duration in milliseconds
+   */
+  public long getTestElapsed() {
+    return testElapsed;
+  }
+
+  /**
+   * time to first byte reported by the browser for a new document
+   *
+   * @return duration in milliseconds or -1 for SPA transitions
+   */
+  public long getTimeToFirstByte() {
+    return ttfb;
+  }
+
+  /**
+   * Lightning Experience Page Time as reported by the Aura metrics service
+   *
+   * @return duration in milliseconds or -1 if page is not a Lightning page
+   */
+  public long getExperiencePageTime() {
+    return ept;
+  }
+
+  String toCsvRow() {
+    return String.join(
+        ",",
+        String.valueOf(timestamp),
+        escapeCsv(label),
+        escapeCsv(pageObject),
+        escapeCsv(url),
+        String.valueOf(softNavigation),
+        String.valueOf(testElapsed),
+        String.valueOf(dns),
+        String.valueOf(connect),
+        String.valueOf(ttfb),
+        String.valueOf(domContentLoaded),
+        String.valueOf(loadEvent),
+        String.valueOf(ept));
+  }
+
+  String toJson() {
+    return String.format(
+        "{\"timestamp\":%d,\"label\":\"%s\",\"pageObject\":\"%s\",\"url\":\"%s\","
+            + "\"softNavigation\":%b,\"testElapsed\":%d,\"dns\":%d,\"connect\":%d,\"ttfb\":%d,"
+            + "\"domContentLoaded\":%d,\"loadEvent\":%d,\"ept\":%d}",
+        timestamp,
+        escapeJson(label),
+        escapeJson(pageObject),
+        escapeJson(url),
+        softNavigation,
+        testElapsed,
+        dns,
+        connect,
+        ttfb,
+        domContentLoaded,
+        loadEvent,
+        ept);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.navigation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * Per-run time series of navigation timings. Every sample is appended to a CSV file and to a JSON
+ * Lines file with the same name, both created on first use in the directory set by system property
+ * "utam.navigation.timing.dir" (default is target/navigation-timing).
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class NavigationTimingLog {
+
+  static final String DIRECTORY_PROPERTY = "utam.navigation.timing.dir";
+  private static final String DEFAULT_DIRECTORY = "target/navigation-timing";
+  private static NavigationTimingLog runLog;
+
+  private final Path csvFile;
+  private final Path jsonFile;
+
+  NavigationTimingLog(Path directory, String runId) {
+    this.csvFile = directory.resolve("navigation-" + runId + ".csv");
+    this.jsonFile = directory.resolve("navigation-" + runId + ".jsonl");
+  }
+
+  /**
+   * get log shared by all tests running in this JVM
+   *
+   * @return instance of the log
+   */
+  public static synchronized NavigationTimingLog getRunLog() {
+    if (runLog == null) {
+      Path directory = Paths.get(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY));
+      String runId = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+      runLog = new NavigationTimingLog(directory, runId);
+    }
+    return runLog;
+  }
+
+  private static void append(Path file, String line) throws IOException {
+    Files.write(
+        file,
+        Collections.singletonList(line),
+        StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+  }
+
+  synchronized void write(NavigationTiming timing) {
+    try {
+      if (!Files.exists(csvFile)) {
+        Files.createDirectories(csvFile.getParent());
+        append(csvFile, NavigationTiming.CSV_HEADER);
+      }
+      append(csvFile, timing.toCsvRow());
+      append(jsonFile, timing.toJson());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write navigation timing to " + csvFile, e);
+    }
+  }
+
+  public Path getCsvFile() {
+    return csvFile;
+  }
+
+  public Path getJsonFile() {
+    return jsonFile;
+  }
+}
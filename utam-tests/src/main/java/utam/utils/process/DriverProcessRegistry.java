@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.process;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * Tracks driver, browser and Appium processes started by this JVM and makes sure none of them
+ * outlives its test session. Process of the driver service started for a session, found by the
+ * port it listens on, and everything it spawns belong to its {@link TrackedSession}; they are
+ * killed when the session is closed after driver quit, when session was idle or alive for too
+ * long, when JVM exits, or by the next run if JVM was killed.
+ *
+ * <p>Settings are system properties:
+ *
+ * <ul>
+ *   <li>"utam.process.idleTtlMinutes" - max time without WebDriver commands, default 30, not
+ *       applied to sessions shared by test classes, see {@link TrackedSession#markShared()}
+ *   <li>"utam.process.maxTtlMinutes" - max lifetime of a session, default 120
+ *   <li>"utam.process.dir" - directory with process ids of running sessions, default is
+ *       "utam-driver-processes" in java.io.tmpdir, shared by all runs on the node
+ *   <li>"utam.process.report.dir" - directory of the CSV report with peak memory of every session,
+ *       default target/driver-sessions
+ * </ul>
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class DriverProcessRegistry {
+
+  static final String IDLE_TTL_PROPERTY = "utam.process.idleTtlMinutes";
+  static final String MAX_TTL_PROPERTY = "utam.process.maxTtlMinutes";
+  static final String DIRECTORY_PROPERTY = "utam.process.dir";
+  static final String REPORT_DIRECTORY_PROPERTY = "utam.process.report.dir";
+  static final String CSV_HEADER = "session,reason,pids,durationSec,peakMemoryMb";
+  private static final String DEFAULT_REPORT_DIRECTORY = "target/driver-sessions";
+  private static final String PIDS_SUFFIX = ".pids";
+  private static final Duration SAMPLE_PERIOD = Duration.ofSeconds(5);
+  private static final Duration KILL_GRACE_PERIOD = Duration.ofSeconds(5);
+  private static DriverProcessRegistry instance;
+
+  private final Duration idleTtl;
+  private final Duration maxTtl;
+  private final Path pidsFile;
+  private final Path reportFile;
+  private final List<TrackedSession<?>> sessions = new CopyOnWriteArrayList<>();
+  private final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
+  private final List<String> report = new ArrayList<>();
+
+  DriverProcessRegistry(Duration idleTtl, Duration maxTtl, Path pidsDirectory, Path reportFile) {
+    this.idleTtl = idleTtl;
+    this.maxTtl = maxTtl;
+    this.pidsFile = pidsDirectory.resolve(ProcessHandle.current().pid() + PIDS_SUFFIX);
+    this.reportFile = reportFile;
+  }
+
+  /**
+   * get registry of this JVM, on first call kills processes left by previous runs that did not
+   * exit normally and starts the reaper
+   *
+   * @return registry instance
+   */
+  public static synchronized DriverProcessRegistry getInstance() {
+    if (instance == null) {
+      String runId = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+      Path pidsDirectory =
+          Paths.get(
+              System.getProperty(
+                  DIRECTORY_PROPERTY,
+                  Paths.get(System.getProperty("java.io.tmpdir"), "utam-driver-processes")
+                      .toString()));
+      instance =
+          new DriverProcessRegistry(
+              Duration.ofMinutes(Long.getLong(IDLE_TTL_PROPERTY, 30)),
+              Duration.ofMinutes(Long.getLong(MAX_TTL_PROPERTY, 120)),
+              pidsDirectory,
+              Paths.get(
+                  System.getProperty(REPORT_DIRECTORY_PROPERTY, DEFAULT_REPORT_DIRECTORY),
+                  "driver-sessions-" + runId + ".csv"));
+      instance.killOrphans(pidsDirectory);
+      instance.startReaper();
+    }
+    return instance;
+  }
+
+  private void startReaper() {
+    ScheduledExecutorService reaper =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "utam-process-reaper");
+              thread.setDaemon(true);
+              return thread;
+            });
+    reaper.scheduleAtFixedRate(
+        this::sample, SAMPLE_PERIOD.toMillis(), SAMPLE_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(
+                () -> {
+                  reaper.shutdownNow();
+                  shutdownTasks.forEach(DriverProcessRegistry::runShutdownTask);
+                  sessions.forEach(session -> session.kill("shutdown"));
+                },
+                "utam-process-shutdown"));
+  }
+
+  /**
+   * run task when JVM exits, before processes of open sessions are killed; shutdown hooks run
+   * concurrently, so a driver that should quit gracefully is stopped here and not in its own hook
+   *
+   * @param task task to run, for example quit of a driver shared by test classes
+   */
+  public void beforeShutdown(Runnable task) {
+    shutdownTasks.add(task);
+  }
+
+  private static void runShutdownTask(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      // processes are killed anyway
+    }
+  }
+
+  /** sample memory of open sessions and kill the ones that exceeded TTL */
+  void sample() {
+    Instant now = Instant.now();
+    for (TrackedSession<?> session : sessions) {
+      session.sampleMemory();
+      if (Duration.between(session.getStarted(), now).compareTo(maxTtl) > 0) {
+        session.kill("max ttl");
+      } else if (!session.isShared()
+          && Duration.between(session.getLastActivity(), now).compareTo(idleTtl) > 0) {
+        session.kill("idle ttl");
+      }
+    }
+    // browsers are spawned by the service after launch, keep their ids for the next run
+    writePids();
+  }
+
+  /**
+   * start driver service and create driver connected to it, service process is tracked with its
+   * descendants so that sessions launched concurrently never claim each other's processes; if
+   * launch fails, service process is killed right away
+   *
+   * @param name session name for the report, for example "chrome"
+   * @param service driver service, for example ChromeDriverService or AppiumDriverLocalService,
+   *     started here unless it is running already
+   * @param driverFactory creates driver connected to the started service
+   * @param <S> type of driver service
+   * @param <T> type of launched resource
+   * @return tracked session
+   */
+  public <S extends DriverService, T> TrackedSession<T> launch(
+      String name, S service, Function<S, T> driverFactory) {
+    TrackedSession<T> session = new TrackedSession<>(this, name);
+    T resource;
+    try {
+      if (!service.isRunning()) {
+        service.start();
+      }
+      session.setProcesses(findServiceProcess(service.getUrl().getPort()));
+      resource = driverFactory.apply(service);
+    } catch (IOException e) {
+      throw launchFailed(session, new UncheckedIOException("Failed to start " + name, e));
+    } catch (RuntimeException e) {
+      throw launchFailed(session, e);
+    }
+    session.setResource(resource);
+    sessions.add(session);
+    writePids();
+    return session;
+  }
+
+  private RuntimeException launchFailed(TrackedSession<?> session, RuntimeException e) {
+    // not registered, only kill what was started
+    kill(session.getProcesses());
+    addReport(session, "launch failed");
+    return e;
+  }
+
+  /**
+   * find process of a driver service started by this JVM by the port in its command line,
+   * chromedriver and geckodriver get "--port=N", Appium gets "--port N"
+   *
+   * @param port port of the service url
+   * @return service process or empty set if it is not a child of this JVM
+   */
+  static Set<ProcessHandle> findServiceProcess(int port) {
+    return ProcessHandle.current()
+        .children()
+        .filter(process -> isListeningOn(process.info().arguments().orElse(new String[0]), port))
+        .collect(Collectors.toSet());
+  }
+
+  static boolean isListeningOn(String[] arguments, int port) {
+    String value = String.valueOf(port);
+    for (int i = 0; i < arguments.length; i++) {
+      if (arguments[i].equals("--port=" + value)) {
+        return true;
+      }
+      boolean isPortFlag = arguments[i].equals("--port") || arguments[i].equals("-p");
+      if (isPortFlag && i + 1 < arguments.length && arguments[i + 1].equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void closed(TrackedSession<?> session, String reason) {
+    sessions.remove(session);
+    writePids();
+    addReport(session, reason);
+  }
+
+  private synchronized void addReport(TrackedSession<?> session, String reason) {
+    report.add(
+        String.format(
+            "%s,%s,%s,%d,%s",
+            session.getName(),
+            reason,
+            session.getProcesses().stream()
+                .map(process -> String.valueOf(process.pid()))
+                .collect(Collectors.joining(" ")),
+            Duration.between(session.getStarted(), Instant.now()).getSeconds(),
+            session.getPeakMemoryKb() < 0
+                ? "-1"
+                : String.format("%.1f", session.getPeakMemoryKb() / 1024.0)));
+    List<String> lines = new ArrayList<>();
+    lines.add(CSV_HEADER);
+    lines.addAll(report);
+    try {
+      Files.createDirectories(reportFile.toAbsolutePath().getParent());
+      Files.write(reportFile, lines, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write driver sessions report to " + reportFile, e);
+    }
+  }
+
+  public Path getReportFile() {
+    return reportFile;
+  }
+
+  /**
+   * file format is "pid startEpochMillis" per line, start time protects from reused pids; service
+   * processes are written with their current descendants that would be orphaned if JVM was killed
+   */
+  private synchronized void writePids() {
+    List<String> lines = new ArrayList<>();
+    for (TrackedSession<?> session : sessions) {
+      Set<ProcessHandle> all = new LinkedHashSet<>(session.getProcesses());
+      session.getProcesses().forEach(process -> process.descendants().forEach(all::add));
+      for (ProcessHandle process : all) {
+        process
+            .info()
+            .startInstant()
+            .ifPresent(start -> lines.add(process.pid() + " " + start.toEpochMilli()));
+      }
+    }
+    try {
+      if (lines.isEmpty()) {
+        Files.deleteIfExists(pidsFile);
+      } else {
+        Files.createDirectories(pidsFile.getParent());
+        Files.write(pidsFile, lines, StandardCharsets.UTF_8);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write process ids to " + pidsFile, e);
+    }
+  }
+
+  /** kill processes listed by JVMs that are not running anymore */
+  private void killOrphans(Path pidsDirectory) {
+    if (!Files.isDirectory(pidsDirectory)) {
+      return;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(pidsDirectory, "*" + PIDS_SUFFIX)) {
+      for (Path file : files) {
+        String owner = file.getFileName().toString().replace(PIDS_SUFFIX, "");
+        if (isAlive(Long.parseLong(owner))) {
+          continue;
+        }
+        Set<ProcessHandle> orphans = new HashSet<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+          String[] values = line.trim().split(" ");
+          Optional<ProcessHandle> process = ProcessHandle.of(Long.parseLong(values[0]));
+          long start = Long.parseLong(values[1]);
+          process
+              .filter(
+                  handle ->
+                      handle.info().startInstant().map(Instant::toEpochMilli).orElse(-1L)
+                          == start)
+              .ifPresent(orphans::add);
+        }
+        kill(orphans);
+        Files.delete(file);
+      }
+    } catch (IOException | NumberFormatException e) {
+      // report of a previous run is broken, nothing to clean up
+    }
+  }
+
+  private static boolean isAlive(long pid) {
+    return ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+  }
+
+  /**
+   * kill processes and everything they spawned, children first; forcibly after a grace period
+   *
+   * @param processes processes to kill
+   */
+  static void kill(Collection<ProcessHandle> processes) {
+    Set<ProcessHandle> all = new LinkedHashSet<>();
+    for (ProcessHandle process : processes) {
+      process.descendants().forEach(all::add);
+      all.add(process);
+    }
+    all.removeIf(process -> !process.isAlive());
+    all.forEach(ProcessHandle::destroy);
+    long deadline = System.nanoTime() + KILL_GRACE_PERIOD.toNanos();
+    for (ProcessHandle process : all) {
+      long remaining = deadline - System.nanoTime();
+      try {
+        process.onExit().get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+      } catch (Exception e) {
+        process.destroyForcibly();
+      }
+    }
+  }
+}
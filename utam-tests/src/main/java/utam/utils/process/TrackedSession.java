@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.process;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import utam.utils.browser.ProcessMemory;
+import utam.utils.driver.CommandListener;
+
+/**
+ * Driver session with the driver service process it started, see {@link DriverProcessRegistry}.
+ * Every WebDriver command of the session resets its idle time when it is added as a command
+ * listener.
+ *
+ * @param <T> type of launched resource, for example driver
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class TrackedSession<T> implements CommandListener {
+
+  private final DriverProcessRegistry registry;
+  private final String name;
+  private final Instant started = Instant.now();
+  private volatile Instant lastActivity = started;
+  private Set<ProcessHandle> processes = Collections.emptySet();
+  private T resource;
+  private long peakMemoryKb = -1;
+  private boolean closed;
+  private volatile boolean shared;
+
+  TrackedSession(DriverProcessRegistry registry, String name) {
+    this.registry = registry;
+    this.name = name;
+  }
+
+  void setProcesses(Set<ProcessHandle> processes) {
+    this.processes = Collections.unmodifiableSet(new LinkedHashSet<>(processes));
+  }
+
+  void setResource(T resource) {
+    this.resource = resource;
+  }
+
+  /**
+   * launched resource, for example driver
+   *
+   * @return resource
+   */
+  public T get() {
+    return resource;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Set<ProcessHandle> getProcesses() {
+    return processes;
+  }
+
+  Instant getStarted() {
+    return started;
+  }
+
+  Instant getLastActivity() {
+    return lastActivity;
+  }
+
+  /**
+   * mark session as shared by test classes, it waits without commands between tests and is not
+   * killed by idle TTL; max TTL still applies
+   */
+  public void markShared() {
+    shared = true;
+  }
+
+  boolean isShared() {
+    return shared;
+  }
+
+  /** reset idle time, for example while test waits without WebDriver commands */
+  public void touch() {
+    lastActivity = Instant.now();
+  }
+
+  @Override
+  public void beforeCommand(Command command) {
+    touch();
+  }
+
+  @Override
+  public void afterCommand(Command command, Response response, long durationNanos) {
+    touch();
+  }
+
+  synchronized void sampleMemory() {
+    // browsers and tabs spawned by the service are counted as descendants
+    Set<ProcessHandle> all = new LinkedHashSet<>(processes);
+    processes.forEach(process -> process.descendants().forEach(all::add));
+    long total = -1;
+    for (ProcessHandle process : all) {
+      long kb = ProcessMemory.getResidentKb(process);
+      if (kb >= 0) {
+        total = Math.max(total, 0) + kb;
+      }
+    }
+    peakMemoryKb = Math.max(peakMemoryKb, total);
+  }
+
+  /**
+   * peak resident memory of session processes sampled every few seconds
+   *
+   * @return memory in kilobytes or -1 if not available
+   */
+  public synchronized long getPeakMemoryKb() {
+    return peakMemoryKb;
+  }
+
+  /** close session after driver quit, kills processes that are still alive */
+  public void close() {
+    kill("quit");
+  }
+
+  synchronized void kill(String reason) {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    sampleMemory();
+    DriverProcessRegistry.kill(processes);
+    registry.closed(this, reason);
+  }
+
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Checks that test environment is usable before browsers are launched: org is reachable and
+ * credentials are accepted by the login form. Login passed if redirects after login lead to the
+ * landing page or if a session cookie "sid" was set: frontdoor answers with status 200 and leads
+ * to the landing page with JavaScript, which is not run here. Uses plain HTTP with short timeouts,
+ * so a wrong url or a down org is reported in seconds.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class LoginHealthProbe {
+
+  private static final int MAX_REDIRECTS = 10;
+  private static final String SESSION_COOKIE = "sid";
+
+  private final CookieManager cookies = new CookieManager();
+  private final HttpClient client;
+  private final Duration timeout;
+
+  /**
+   * create probe
+   *
+   * @param timeout timeout of connect and of every request
+   */
+  public LoginHealthProbe(Duration timeout) {
+    this.timeout = timeout;
+    this.client =
+        HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .cookieHandler(cookies)
+            .build();
+  }
+
+  private static String form(Map<String, String> fields) {
+    return fields.entrySet().stream()
+        .map(
+            field ->
+                URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8)
+                    + "="
+                    + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+        .collect(Collectors.joining("&"));
+  }
+
+  /**
+   * check environment asynchronously
+   *
+   * @param environment test environment
+   * @param landingPagePartialUrl partial url of the page after login, same as in the UI login
+   * @return future with null if environment is healthy or with a failure message
+   */
+  public CompletableFuture<String> check(
+      TestEnvironment environment, String landingPagePartialUrl) {
+    final URI loginUri;
+    final String userName;
+    final String password;
+    try {
+      loginUri = URI.create(environment.getBaseUrl());
+      userName = environment.getUserName();
+      password = environment.getPassword();
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.completedFuture(e.getMessage());
+    }
+    return check(loginUri, userName, password, landingPagePartialUrl);
+  }
+
+  CompletableFuture<String> check(
+      URI loginUri, String userName, String password, String landingPagePartialUrl) {
+    Map<String, String> fields = new LinkedHashMap<>();
+    fields.put("un", userName);
+    fields.put("username", userName);
+    fields.put("pw", password);
+    String body = form(fields);
+    HttpRequest ping = HttpRequest.newBuilder(loginUri).timeout(timeout).GET().build();
+    return client
+        .sendAsync(ping, BodyHandlers.discarding())
+        .thenCompose(
+            response -> {
+              if (response.statusCode() >= 500) {
+                return CompletableFuture.completedFuture(
+                    String.format("%s responded with status %d", loginUri, response.statusCode()));
+              }
+              HttpRequest login =
+                  HttpRequest.newBuilder(loginUri)
+                      .timeout(timeout)
+                      .header("Content-Type", "application/x-www-form-urlencoded")
+                      .POST(HttpRequest.BodyPublishers.ofString(body))
+                      .build();
+              return client
+                  .sendAsync(login, BodyHandlers.discarding())
+                  .thenCompose(
+                      loginResponse ->
+                          followRedirects(loginResponse, new ArrayList<>(), landingPagePartialUrl));
+            })
+        .exceptionally(
+            e ->
+                String.format(
+                    "%s is not reachable: %s",
+                    loginUri, e.getCause() == null ? e.getMessage() : e.getCause()));
+  }
+
+  private CompletableFuture<String> followRedirects(
+      HttpResponse<Void> response, List<String> chain, String landingPagePartialUrl) {
+    boolean redirect = response.statusCode() / 100 == 3;
+    if (!redirect || chain.size() == MAX_REDIRECTS) {
+      return CompletableFuture.completedFuture(
+          getLoginFailure(response, chain, landingPagePartialUrl));
+    }
+    URI next = response.uri().resolve(response.headers().firstValue("Location").orElse(""));
+    chain.add(next.toString());
+    HttpRequest request = HttpRequest.newBuilder(next).timeout(timeout).GET().build();
+    return client
+        .sendAsync(request, BodyHandlers.discarding())
+        .thenCompose(nextResponse -> followRedirects(nextResponse, chain, landingPagePartialUrl));
+  }
+
+  private String getLoginFailure(
+      HttpResponse<Void> last, List<String> chain, String landingPagePartialUrl) {
+    boolean landed = chain.stream().anyMatch(url -> url.contains(landingPagePartialUrl));
+    if (landed || hasSessionCookie()) {
+      return null;
+    }
+    if (chain.isEmpty()) {
+      // login form is rendered again with an error message
+      return String.format(
+          "Login to %s with provided credentials failed, status %d",
+          last.uri(), last.statusCode());
+    }
+    return String.format(
+        "After login redirects did not lead to '%s' and no session was created: %s",
+        landingPagePartialUrl, chain);
+  }
+
+  private boolean hasSessionCookie() {
+    return cookies.getCookieStore().getCookies().stream()
+        .anyMatch(
+            cookie -> SESSION_COOKIE.equals(cookie.getName()) && !cookie.getValue().isEmpty());
+  }
+}
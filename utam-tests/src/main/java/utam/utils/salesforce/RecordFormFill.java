@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Values of record form fields set with one script call instead of typing into every field. Script
+ * sets value of the first input or textarea of the layout item with native value setter and fires
+ * "input", "change" and "blur" events that LWC components listen to, so it works for plain text and
+ * number inputs. Fields with own parsing or keyboard handling, for example lightning-datepicker,
+ * lookups and comboboxes, still should be filled with page objects.
+ *
+ * <p>Fields are found by field label or by 1-based position, same as
+ * LwcRecordLayout.getItem(section, row, column), see {@link RecordLayoutScan}.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RecordFormFill {
+
+  private static final String SCRIPT =
+      RecordLayoutScan.LAYOUT_FUNCTIONS
+          + "var fields = layoutItems(arguments[0]);"
+          + "var missing = [];"
+          + "arguments[1].forEach(function(value) {"
+          + "  var field = fields.find(function(f) {"
+          + "    return value[3] === null"
+          + "      ? f[0] === value[0] && f[1] === value[1] && f[2] === value[2]"
+          + "      : f[3].toLowerCase() === value[3];"
+          + "  });"
+          + "  var input = field && (deep(field[4], 'input', [])"
+          + "    .filter(function(i) { return i.type !== 'hidden'; })"
+          + "    .concat(deep(field[4], 'textarea', []))[0]);"
+          + "  if (!input) {"
+          + "    missing.push(value[3] === null ? value.slice(0, 3).join(',') : value[3]);"
+          + "    return;"
+          + "  }"
+          + "  var proto = input.tagName === 'TEXTAREA'"
+          + "    ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+          + "  input.focus();"
+          + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(input, value[4]);"
+          + "  input.dispatchEvent(new Event('input', {bubbles: true, composed: true}));"
+          + "  input.dispatchEvent(new Event('change', {bubbles: true, composed: true}));"
+          + "  input.blur();"
+          + "});"
+          + "return missing;";
+
+  private final String scopeTag;
+  private final List<List<Object>> values = new ArrayList<>();
+
+  /** fill the last record layout in the document */
+  public RecordFormFill() {
+    this(RecordLayoutScan.DEFAULT_SCOPE);
+  }
+
+  /**
+   * fill the last element with given tag in the document
+   *
+   * @param scopeTag tag of the layout root
+   */
+  public RecordFormFill(String scopeTag) {
+    this.scopeTag = scopeTag;
+  }
+
+  /**
+   * set value of the field with the label
+   *
+   * @param label field label, case insensitive, for example "Account Name"
+   * @param value value to set
+   * @return this instance to chain
+   */
+  public RecordFormFill set(String label, String value) {
+    values.add(Arrays.asList(0, 0, 0, label.trim().toLowerCase(Locale.ROOT), value));
+    return this;
+  }
+
+  /**
+   * set value of the field at the position
+   *
+   * @param section 1-based section index
+   * @param row 1-based row index
+   * @param column 1-based column index
+   * @param value value to set
+   * @return this instance to chain
+   */
+  public RecordFormFill set(int section, int row, int column, String value) {
+    values.add(Arrays.asList(section, row, column, null, value));
+    return this;
+  }
+
+  public int getFieldsCount() {
+    return values.size();
+  }
+
+  /**
+   * set all values with one script call
+   *
+   * @param executor driver
+   * @throws WebDriverException if some fields were not found, other fields are set anyway
+   */
+  @SuppressWarnings("unchecked")
+  public void apply(JavascriptExecutor executor) {
+    if (values.isEmpty()) {
+      return;
+    }
+    List<Object> missing = (List<Object>) executor.executeScript(SCRIPT, scopeTag, values);
+    if (!missing.isEmpty()) {
+      throw new WebDriverException("Record form fields not found or not editable: " + missing);
+    }
+  }
+}
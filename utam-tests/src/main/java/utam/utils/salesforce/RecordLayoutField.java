@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+/**
+ * Field of a record layout found by {@link RecordLayoutScan}: 1-based position, same as in
+ * LwcRecordLayout.getItem(section, row, column), and field label
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RecordLayoutField {
+
+  private final int section;
+  private final int row;
+  private final int column;
+  private final String label;
+
+  RecordLayoutField(int section, int row, int column, String label) {
+    this.section = section;
+    this.row = row;
+    this.column = column;
+    this.label = label;
+  }
+
+  public int getSection() {
+    return section;
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getColumn() {
+    return column;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("(%d,%d,%d) '%s'", section, row, column, label);
+  }
+}
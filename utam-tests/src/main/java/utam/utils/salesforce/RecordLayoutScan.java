@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Positions and labels of all fields of a record layout read in one script call. Script walks
+ * sections, rows and items of the layout through shadow roots in document order, so positions
+ * match indexes of LwcRecordLayout.getItem(section, row, column).
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RecordLayoutScan {
+
+  /** tag of the record layout root, last one in the document is scanned, for example in a modal */
+  public static final String DEFAULT_SCOPE = "records-lwc-record-layout";
+
+  /**
+   * script functions: deep(node, tag, out) finds elements through shadow roots in document order,
+   * layoutItems(scope) returns [section, row, column, label, item] of the layout, scope is the root
+   * element of the layout or a tag to scan the last element with this tag in the document
+   */
+  static final String LAYOUT_FUNCTIONS =
+      "function deep(node, tag, out) {"
+          + "  var children = Array.prototype.slice.call(node.children || []);"
+          + "  if (node.shadowRoot) { children.unshift(node.shadowRoot); }"
+          + "  for (var i = 0; i < children.length; i++) {"
+          + "    var child = children[i];"
+          + "    if (child.tagName && child.tagName.toLowerCase() === tag) { out.push(child); }"
+          + "    else { deep(child, tag, out); }"
+          + "  }"
+          + "  return out;"
+          + "}"
+          + "function layoutItems(scope) {"
+          + "  var fields = [];"
+          + "  if (typeof scope === 'string') {"
+          + "    var scopes = deep(document, scope, []);"
+          + "    if (!scopes.length) { return fields; }"
+          + "    scope = scopes[scopes.length - 1];"
+          + "  }"
+          + "  var sections = deep(scope, 'records-record-layout-section', []);"
+          + "  for (var s = 0; s < sections.length; s++) {"
+          + "    var rows = deep(sections[s], 'records-record-layout-row', []);"
+          + "    for (var r = 0; r < rows.length; r++) {"
+          + "      var items = deep(rows[r], 'records-record-layout-item', []);"
+          + "      for (var c = 0; c < items.length; c++) {"
+          + "        var label = items[c].getAttribute('field-label');"
+          + "        if (!label) {"
+          + "          var labels = deep(items[c], 'label', []);"
+          + "          label = labels.length ? labels[0].textContent : '';"
+          + "        }"
+          + "        fields.push([s + 1, r + 1, c + 1, label.replace('*', '').trim(), items[c]]);"
+          + "      }"
+          + "    }"
+          + "  }"
+          + "  return fields;"
+          + "}";
+
+  private static final String SCRIPT =
+      LAYOUT_FUNCTIONS
+          + "return layoutItems(arguments[0]).map(function(field) {"
+          + "  return field.slice(0, 4);"
+          + "});";
+
+  private final Map<String, RecordLayoutField> byPosition = new LinkedHashMap<>();
+  private final Map<String, RecordLayoutField> byLabel = new LinkedHashMap<>();
+
+  RecordLayoutScan(List<RecordLayoutField> fields) {
+    for (RecordLayoutField field : fields) {
+      byPosition.put(
+          getPositionKey(field.getSection(), field.getRow(), field.getColumn()), field);
+      if (!field.getLabel().isEmpty()) {
+        byLabel.putIfAbsent(field.getLabel().toLowerCase(Locale.ROOT), field);
+      }
+    }
+  }
+
+  /**
+   * scan the last record layout in the document
+   *
+   * @param executor driver
+   * @return scan result, empty if layout is not found
+   */
+  public static RecordLayoutScan scan(JavascriptExecutor executor) {
+    return scan(executor, DEFAULT_SCOPE);
+  }
+
+  /**
+   * scan the last element with given tag in the document
+   *
+   * @param executor driver
+   * @param scopeTag tag of the layout root
+   * @return scan result, empty if layout is not found
+   */
+  public static RecordLayoutScan scan(JavascriptExecutor executor, String scopeTag) {
+    return scanScope(executor, scopeTag);
+  }
+
+  /**
+   * scan the layout with given root element, for example root of a loaded LwcRecordLayout
+   *
+   * @param executor driver
+   * @param layoutRoot root element of the layout
+   * @return scan result
+   */
+  public static RecordLayoutScan scan(JavascriptExecutor executor, WebElement layoutRoot) {
+    return scanScope(executor, layoutRoot);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RecordLayoutScan scanScope(JavascriptExecutor executor, Object scope) {
+    Object result = executor.executeScript(SCRIPT, scope);
+    List<RecordLayoutField> fields = new ArrayList<>();
+    for (List<Object> field : (List<List<Object>>) result) {
+      fields.add(
+          new RecordLayoutField(
+              ((Number) field.get(0)).intValue(),
+              ((Number) field.get(1)).intValue(),
+              ((Number) field.get(2)).intValue(),
+              (String) field.get(3)));
+    }
+    return new RecordLayoutScan(fields);
+  }
+
+  static String getPositionKey(int section, int row, int column) {
+    return section + "," + row + "," + column;
+  }
+
+  public List<RecordLayoutField> getFields() {
+    return Collections.unmodifiableList(new ArrayList<>(byPosition.values()));
+  }
+
+  /**
+   * find field by position
+   *
+   * @param section 1-based section index
+   * @param row 1-based row index
+   * @param column 1-based column index
+   * @return field or null
+   */
+  public RecordLayoutField getByPosition(int section, int row, int column) {
+    return byPosition.get(getPositionKey(section, row, column));
+  }
+
+  /**
+   * find field by label, case insensitive, required marker is ignored
+   *
+   * @param label field label, for example "Account Name"
+   * @return field or null, first field if several have the same label
+   */
+  public RecordLayoutField getByLabel(String label) {
+    return byLabel.get(label.trim().toLowerCase(Locale.ROOT));
+  }
+}
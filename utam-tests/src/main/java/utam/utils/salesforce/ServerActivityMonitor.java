@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+import java.time.Duration;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Readiness signal based on server traffic of the page. Injected script counts pending XHR and
+ * fetch requests, Aura in-flight requests are added when Aura client service is present. Wait runs
+ * inside the browser and returns as soon as there are no pending requests during a quiet period,
+ * so there is no polling interval on the test side.
+ *
+ * <p>Script is lost on full page load, install it after navigation and before the action whose
+ * requests are awaited; requests sent before install are not tracked except Aura ones. Aura
+ * requests are read from $A.clientService.inFlightXHRs, an internal API of Aura framework that is
+ * present in Lightning Experience but not in LWR sites or Visualforce pages, and may change with
+ * Salesforce releases; without it only instrumented XHR and fetch are counted.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ServerActivityMonitor {
+
+  /** system property to install monitor after every navigation of web tests */
+  public static final String MONITOR_PROPERTY = "utam.serverActivity.monitor";
+
+  static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(100);
+  // browser side wait is split in slices that fit default script timeout of 30 seconds
+  static final Duration MAX_SLICE = Duration.ofSeconds(10);
+
+  private static final String INSTALL =
+      "if (!window.__utamActivity) {"
+          + "  var activity = {pending: 0};"
+          + "  window.__utamActivity = activity;"
+          + "  var done = function() { activity.pending = Math.max(0, activity.pending - 1); };"
+          + "  var send = XMLHttpRequest.prototype.send;"
+          + "  XMLHttpRequest.prototype.send = function() {"
+          + "    activity.pending++;"
+          + "    this.addEventListener('loadend', done);"
+          + "    try { return send.apply(this, arguments); }"
+          + "    catch (e) { done(); throw e; }"
+          + "  };"
+          + "  if (window.fetch) {"
+          + "    var fetch = window.fetch;"
+          + "    window.fetch = function() {"
+          + "      activity.pending++;"
+          + "      var result;"
+          + "      try { result = fetch.apply(this, arguments); }"
+          + "      catch (e) { done(); throw e; }"
+          + "      result.then(done, done);"
+          + "      return result;"
+          + "    };"
+          + "  }"
+          + "}";
+
+  private static final String PENDING =
+      "function pending() {"
+          + "  var count = window.__utamActivity ? window.__utamActivity.pending : 0;"
+          + "  var client = window.$A && window.$A.clientService;"
+          + "  if (client && typeof client.inFlightXHRs === 'function') {"
+          + "    count += client.inFlightXHRs();"
+          + "  }"
+          + "  return document.readyState === 'complete' ? count : count + 1;"
+          + "}";
+
+  private static final String WAIT =
+      INSTALL
+          + PENDING
+          + "var quiet = arguments[0], slice = arguments[1], callback = arguments[2];"
+          + "var start = Date.now(), idleSince = null;"
+          + "(function check() {"
+          + "  var now = Date.now();"
+          + "  if (pending() > 0) { idleSince = null; }"
+          + "  else if (idleSince === null) { idleSince = now; }"
+          + "  if (idleSince !== null && now - idleSince >= quiet) { callback(true); }"
+          + "  else if (now - start >= slice) { callback(false); }"
+          + "  else { setTimeout(check, 10); }"
+          + "})();";
+
+  private final JavascriptExecutor executor;
+  private final Duration quietPeriod;
+
+  /**
+   * create monitor with default quiet period of 100 ms
+   *
+   * @param executor driver
+   */
+  public ServerActivityMonitor(JavascriptExecutor executor) {
+    this(executor, DEFAULT_QUIET_PERIOD);
+  }
+
+  /**
+   * create monitor
+   *
+   * @param executor driver
+   * @param quietPeriod how long there should be no pending requests to consider page idle
+   */
+  public ServerActivityMonitor(JavascriptExecutor executor, Duration quietPeriod) {
+    this.executor = executor;
+    this.quietPeriod = quietPeriod;
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(MONITOR_PROPERTY);
+  }
+
+  /** instrument XHR and fetch of the current page, does nothing if already installed */
+  public void install() {
+    executor.executeScript(INSTALL);
+  }
+
+  /**
+   * number of pending requests, including page load in progress
+   *
+   * @return number of requests
+   */
+  public int getPendingCount() {
+    return ((Number) executor.executeScript(INSTALL + PENDING + "return pending();")).intValue();
+  }
+
+  /**
+   * wait until there are no pending server requests during the quiet period
+   *
+   * @param timeout max time to wait
+   * @throws TimeoutException if page is still busy after timeout
+   */
+  public void waitForIdle(Duration timeout) {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (true) {
+      long remaining = Math.max(0, deadline - System.nanoTime());
+      long slice = Math.min(Duration.ofNanos(remaining).toMillis(), MAX_SLICE.toMillis());
+      Object idle = executor.executeAsyncScript(WAIT, quietPeriod.toMillis(), slice);
+      if (Boolean.TRUE.equals(idle)) {
+        return;
+      }
+      if (System.nanoTime() >= deadline) {
+        throw new TimeoutException(
+            String.format("Server requests are still pending after %s", timeout));
+      }
+    }
+  }
+}
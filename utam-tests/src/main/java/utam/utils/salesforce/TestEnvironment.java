@@ -108,6 +108,10 @@ public class TestEnvironment {
     return envPrefix + ".lead.id";
   }
 
+  public String getEnvironmentName() {
+    return envPrefix;
+  }
+
   public String getBaseUrl() {
     if (baseUrl.isEmpty()) {
       throw new IllegalArgumentException(String.format(MISSING_PROPERTY_ERR, getBaseUrlKey()));
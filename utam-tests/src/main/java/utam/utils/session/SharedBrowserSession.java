@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.session;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import utam.utils.process.DriverProcessRegistry;
+
+/**
+ * One authenticated browser shared by several tests, every test works in its own window. Tests get
+ * a {@link WindowBoundDriver} that switches the browser to its window before each command; commands
+ * of all windows are serialized by the session while waits between commands interleave, so tests
+ * from different threads can run in the same browser.
+ *
+ * <p>Browser is created and authenticated once per key (for example environment name) and quits
+ * when JVM exits. Window of a finished test is blanked and reused by the next test.
+ *
+ * <p>Limitations: tests should not use frames or alerts, window switch resets frame context. A test
+ * can switch to another window, but its next command runs in its own window again; a test that
+ * closes its window can't use the driver anymore.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SharedBrowserSession {
+
+  private static final Map<String, SharedBrowserSession> SESSIONS = new ConcurrentHashMap<>();
+
+  private final RemoteWebDriver browser;
+  private final CommandExecutor executor;
+  private final Object commandLock = new Object();
+  private final Deque<String> freeWindows = new ArrayDeque<>();
+  private final Set<String> usedWindows = new HashSet<>();
+  // null if not known, for example after current window was closed
+  private String currentWindow;
+  private boolean authenticated;
+
+  SharedBrowserSession(RemoteWebDriver browser) {
+    this.browser = browser;
+    this.executor = browser.getCommandExecutor();
+    this.currentWindow = browser.getWindowHandle();
+    freeWindows.add(currentWindow);
+  }
+
+  /**
+   * get session for the key, browser is started on first call and quits at JVM shutdown
+   *
+   * @param key session key, for example environment name
+   * @param browserFactory creates the browser
+   * @return shared session
+   */
+  public static SharedBrowserSession get(String key, Supplier<RemoteWebDriver> browserFactory) {
+    return SESSIONS.computeIfAbsent(
+        key,
+        sessionKey -> {
+          SharedBrowserSession session = new SharedBrowserSession(browserFactory.get());
+          // quits before the registry kills chromedriver, both at JVM exit
+          DriverProcessRegistry.getInstance().beforeShutdown(session.browser::quit);
+          return session;
+        });
+  }
+
+  /**
+   * authenticate once for all windows, concurrent callers wait until the first one is done; if
+   * authentication fails, next caller tries again
+   *
+   * @param login login action in the window of the caller, for example UI login with page objects
+   */
+  public synchronized void authenticate(Runnable login) {
+    if (!authenticated) {
+      login.run();
+      authenticated = true;
+    }
+  }
+
+  /**
+   * get driver bound to a free window, new window is opened if all are in use
+   *
+   * @return driver for a test
+   */
+  public WindowBoundDriver openWindow() {
+    synchronized (commandLock) {
+      String window = freeWindows.poll();
+      if (window == null) {
+        Set<String> before = browser.getWindowHandles();
+        // opened window does not become current, no need to track switch
+        browser.executeScript("window.open('about:blank', '_blank');");
+        Set<String> after = new HashSet<>(browser.getWindowHandles());
+        after.removeAll(before);
+        if (after.size() != 1) {
+          throw new WebDriverException("Failed to open new window in shared browser");
+        }
+        window = after.iterator().next();
+      }
+      usedWindows.add(window);
+      return new WindowBoundDriver(this, window);
+    }
+  }
+
+  /**
+   * number of windows used by tests right now
+   *
+   * @return number of windows
+   */
+  public int getActiveWindowsCount() {
+    synchronized (commandLock) {
+      return usedWindows.size();
+    }
+  }
+
+  RemoteWebDriver getBrowser() {
+    return browser;
+  }
+
+  // current window of the browser after a command of a test that could change it
+  private String readCurrentWindow() throws IOException {
+    Response response =
+        executor.execute(
+            new Command(
+                browser.getSessionId(),
+                DriverCommand.GET_CURRENT_WINDOW_HANDLE,
+                Collections.emptyMap()));
+    boolean failed = response.getStatus() != null && response.getStatus() != 0;
+    return failed || !(response.getValue() instanceof String)
+        ? null
+        : (String) response.getValue();
+  }
+
+  private void switchTo(String window) throws IOException {
+    if (!window.equals(currentWindow)) {
+      Response response =
+          executor.execute(
+              new Command(
+                  browser.getSessionId(),
+                  DriverCommand.SWITCH_TO_WINDOW,
+                  Collections.singletonMap("handle", window)));
+      if (response.getStatus() != null && response.getStatus() != 0) {
+        throw new WebDriverException("Failed to switch to window " + window);
+      }
+      currentWindow = window;
+    }
+  }
+
+  /**
+   * execute command in the window, quit releases the window instead of quitting the browser
+   *
+   * @param window window handle
+   * @param command command of a test
+   * @return response
+   * @throws IOException if command failed
+   */
+  Response execute(String window, Command command) throws IOException {
+    String name = command.getName();
+    synchronized (commandLock) {
+      if (DriverCommand.QUIT.equals(name)) {
+        release(window);
+        Response response = new Response();
+        response.setStatus(0);
+        return response;
+      }
+      switchTo(window);
+      Response response = executor.execute(command);
+      if (DriverCommand.CLOSE.equals(name) || DriverCommand.SWITCH_TO_WINDOW.equals(name)) {
+        // test changed current window of the browser, next switch should not be skipped
+        currentWindow = readCurrentWindow();
+        if (DriverCommand.CLOSE.equals(name) && !window.equals(currentWindow)) {
+          usedWindows.remove(window);
+        }
+      }
+      return response;
+    }
+  }
+
+  private void release(String window) throws IOException {
+    if (!usedWindows.remove(window)) {
+      // test closed its window, nothing to reuse
+      return;
+    }
+    switchTo(window);
+    // blank instead of close: closing the last window would end the session
+    executor.execute(
+        new Command(
+            browser.getSessionId(),
+            DriverCommand.GET,
+            Collections.singletonMap("url", "about:blank")));
+    freeWindows.add(window);
+  }
+}
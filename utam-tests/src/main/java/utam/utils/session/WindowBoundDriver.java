@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.session;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Driver of one window in a {@link SharedBrowserSession}. Uses session of the shared browser, every
+ * command is executed in its window; quit releases the window for the next test.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class WindowBoundDriver extends RemoteWebDriver {
+
+  private final SharedBrowserSession session;
+  private final String window;
+
+  WindowBoundDriver(SharedBrowserSession session, String window) {
+    // protected constructor does not start a new session
+    super();
+    this.session = session;
+    this.window = window;
+    setCommandExecutor(command -> session.execute(window, command));
+    setSessionId(session.getBrowser().getSessionId().toString());
+  }
+
+  @Override
+  public Capabilities getCapabilities() {
+    return session.getBrowser().getCapabilities();
+  }
+
+  /**
+   * handle of the window this driver is bound to
+   *
+   * @return window handle
+   */
+  public String getBoundWindow() {
+    return window;
+  }
+
+  public SharedBrowserSession getSession() {
+    return session;
+  }
+}
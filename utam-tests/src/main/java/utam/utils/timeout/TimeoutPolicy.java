@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.timeout;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Explicit timeouts per page object type and per operation, loaded from JSON resource set by
+ * system property "utam.timeouts.config" (default is timeouts.json), values are in seconds:
+ *
+ * <pre>
+ * {
+ *   "default": 60,
+ *   "pageObjects": { "Login": 30 },
+ *   "operations": { "RecordActionWrapper.waitForAbsence": 90, "*.waitForUrl": 20 }
+ * }
+ * </pre>
+ *
+ * <p>Page objects are matched by full or simple class name. Operation timeout is looked up by
+ * "Type.operation", then by "*.operation", then falls back to timeout of the page object and to
+ * default. If resource does not exist, every timeout is 60 seconds.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class TimeoutPolicy {
+
+  static final String CONFIG_PROPERTY = "utam.timeouts.config";
+  private static final String DEFAULT_CONFIG = "timeouts.json";
+  private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
+
+  private final Duration defaultTimeout;
+  private final Map<String, Duration> pageObjects = new HashMap<>();
+  private final Map<String, Duration> operations = new HashMap<>();
+
+  TimeoutPolicy(Duration defaultTimeout) {
+    this.defaultTimeout = defaultTimeout;
+  }
+
+  /**
+   * load policy from resource set by system property or from timeouts.json
+   *
+   * @return policy instance
+   */
+  public static TimeoutPolicy fromSystemProperties() {
+    return load(System.getProperty(CONFIG_PROPERTY, DEFAULT_CONFIG));
+  }
+
+  /**
+   * load policy from classpath resource
+   *
+   * @param resourceName name of JSON resource
+   * @return policy instance, with default timeout only if resource does not exist
+   */
+  public static TimeoutPolicy load(String resourceName) {
+    try (InputStream stream =
+        TimeoutPolicy.class.getClassLoader().getResourceAsStream(resourceName)) {
+      if (stream == null) {
+        return new TimeoutPolicy(DEFAULT_TIMEOUT);
+      }
+      JsonNode config = new ObjectMapper().readTree(stream);
+      TimeoutPolicy policy =
+          new TimeoutPolicy(
+              Duration.ofSeconds(config.path("default").asLong(DEFAULT_TIMEOUT.getSeconds())));
+      config
+          .path("pageObjects")
+          .fields()
+          .forEachRemaining(
+              entry ->
+                  policy.pageObjects.put(
+                      entry.getKey(), Duration.ofSeconds(entry.getValue().asLong())));
+      config
+          .path("operations")
+          .fields()
+          .forEachRemaining(
+              entry ->
+                  policy.operations.put(
+                      entry.getKey(), Duration.ofSeconds(entry.getValue().asLong())));
+      return policy;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read timeouts config " + resourceName, e);
+    }
+  }
+
+  public Duration getDefaultTimeout() {
+    return defaultTimeout;
+  }
+
+  /**
+   * timeout for waits of the page object
+   *
+   * @param pageObjectType page object class or interface
+   * @return timeout
+   */
+  public Duration getTimeout(Class<?> pageObjectType) {
+    Duration timeout = pageObjects.get(pageObjectType.getName());
+    if (timeout == null) {
+      timeout = pageObjects.get(pageObjectType.getSimpleName());
+    }
+    return timeout == null ? defaultTimeout : timeout;
+  }
+
+  /**
+   * timeout for waits of the page object method
+   *
+   * @param pageObjectType page object class or interface
+   * @param operation method name, for example "waitForAbsence"
+   * @return timeout
+   */
+  public Duration getTimeout(Class<?> pageObjectType, String operation) {
+    for (String key :
+        new String[] {
+          pageObjectType.getName() + "." + operation,
+          pageObjectType.getSimpleName() + "." + operation,
+          "*." + operation
+        }) {
+      Duration timeout = operations.get(key);
+      if (timeout != null) {
+        return timeout;
+      }
+    }
+    return getTimeout(pageObjectType);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.timeout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-run durations of operations that wait, for example page object load or "waitForAbsence",
+ * with a suggested timeout for each operation. Report is a CSV file in the directory set by system
+ * property "utam.wait.stats.dir" (default is target/wait-statistics), rewritten on every {@link
+ * #write()}.
+ *
+ * <p>Suggested timeout is three times the slowest successful wait rounded up to seconds, at least
+ * 5 seconds and not more than the configured timeout. Operations that timed out keep configured
+ * timeout.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public final class WaitStatistics {
+
+  static final String DIRECTORY_PROPERTY = "utam.wait.stats.dir";
+  static final String CSV_HEADER =
+      "operation,count,timeouts,p50Ms,p95Ms,maxMs,timeoutSec,suggestedSec";
+  private static final String DEFAULT_DIRECTORY = "target/wait-statistics";
+  private static final long MIN_SUGGESTED_SECONDS = 5;
+  private static WaitStatistics runStatistics;
+
+  private final Path file;
+  private final Map<String, Operation> operations = new TreeMap<>();
+
+  WaitStatistics(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * get statistics shared by all tests running in this JVM
+   *
+   * @return instance of the statistics
+   */
+  public static synchronized WaitStatistics getRunStatistics() {
+    if (runStatistics == null) {
+      String runId = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+      runStatistics =
+          new WaitStatistics(
+              Paths.get(
+                  System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY),
+                  "wait-statistics-" + runId + ".csv"));
+    }
+    return runStatistics;
+  }
+
+  /**
+   * record duration of the operation
+   *
+   * @param operation operation name, for example "RecordActionWrapper.waitForAbsence"
+   * @param timeout timeout that was applied
+   * @param durationNanos duration of the operation
+   * @param timedOut true if operation failed with timeout
+   */
+  public synchronized void record(
+      String operation, Duration timeout, long durationNanos, boolean timedOut) {
+    Operation stats = operations.computeIfAbsent(operation, name -> new Operation());
+    stats.timeout = timeout;
+    if (timedOut) {
+      stats.timeouts++;
+    } else {
+      stats.durations.add(durationNanos / 1_000_000);
+    }
+  }
+
+  /**
+   * suggested timeout of the operation
+   *
+   * @param operation operation name
+   * @return suggested timeout or null if operation was not recorded
+   */
+  public synchronized Duration getSuggestedTimeout(String operation) {
+    Operation stats = operations.get(operation);
+    return stats == null ? null : stats.suggest();
+  }
+
+  /** write report with all operations recorded so far */
+  public synchronized void write() {
+    if (operations.isEmpty()) {
+      return;
+    }
+    List<String> lines = new ArrayList<>();
+    lines.add(CSV_HEADER);
+    operations.forEach((name, stats) -> lines.add(name + "," + stats.toCsv()));
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.write(file, lines, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write wait statistics to " + file, e);
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  private static class Operation {
+
+    private final List<Long> durations = new ArrayList<>();
+    private int timeouts;
+    private Duration timeout;
+
+    private long percentile(List<Long> sorted, int percent) {
+      if (sorted.isEmpty()) {
+        return -1;
+      }
+      int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+      return sorted.get(Math.max(0, index));
+    }
+
+    Duration suggest() {
+      if (timeouts > 0 || durations.isEmpty()) {
+        return timeout;
+      }
+      long maxMs = Collections.max(durations);
+      long seconds = Math.max(MIN_SUGGESTED_SECONDS, (maxMs * 3 + 999) / 1000);
+      return Duration.ofSeconds(Math.min(seconds, timeout.getSeconds()));
+    }
+
+    String toCsv() {
+      List<Long> sorted = new ArrayList<>(durations);
+      Collections.sort(sorted);
+      return String.format(
+          "%d,%d,%d,%d,%d,%d,%d",
+          durations.size() + timeouts,
+          timeouts,
+          percentile(sorted, 50),
+          percentile(sorted, 95),
+          sorted.isEmpty() ? -1 : sorted.get(sorted.size() - 1),
+          timeout.getSeconds(),
+          suggest().getSeconds());
+    }
+  }
+}
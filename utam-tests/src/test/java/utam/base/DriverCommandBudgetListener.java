@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.base;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import utam.utils.driver.CommandCounter;
+
+/**
+ * Counts WebDriver commands sent by every test method of web tests, checks them against {@link
+ * MaxDriverCommands} budget and appends counts by command type to a per run CSV report in directory
+ * set by system property "utam.commands.report.dir" (default is target/driver-commands). Commands
+ * of tests with a budget are also attributed to page object methods; commands sent while polling
+ * wait conditions are reported separately and are not charged to the budget.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class DriverCommandBudgetListener implements IInvokedMethodListener {
+
+  static final String REPORT_DIR_PROPERTY = "utam.commands.report.dir";
+  private static final String REPORT_HEADER =
+      "test,total,polling,budget,byCommand,byPageObjectMethod";
+  private static final String RUN_ID = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+  private static final Path REPORT_FILE =
+      Paths.get(
+          System.getProperty(REPORT_DIR_PROPERTY, "target/driver-commands"),
+          "driver-commands-" + RUN_ID + ".csv");
+
+  private static CommandCounter getCounter(ITestResult testResult) {
+    Object instance = testResult.getInstance();
+    if (instance instanceof UtamWebTestBase) {
+      return ((UtamWebTestBase) instance).getCommandCounter();
+    }
+    return null;
+  }
+
+  private static MaxDriverCommands getBudget(IInvokedMethod method, ITestResult testResult) {
+    MaxDriverCommands budget =
+        method
+            .getTestMethod()
+            .getConstructorOrMethod()
+            .getMethod()
+            .getAnnotation(MaxDriverCommands.class);
+    if (budget == null) {
+      budget = testResult.getTestClass().getRealClass().getAnnotation(MaxDriverCommands.class);
+    }
+    return budget;
+  }
+
+  private static String format(Map<String, Integer> counts) {
+    return counts.entrySet().stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.joining(";"));
+  }
+
+  private static synchronized void report(String row) {
+    try {
+      if (!Files.exists(REPORT_FILE)) {
+        Files.createDirectories(REPORT_FILE.toAbsolutePath().getParent());
+        Files.write(REPORT_FILE, Collections.singletonList(REPORT_HEADER), StandardCharsets.UTF_8);
+      }
+      Files.write(
+          REPORT_FILE,
+          Collections.singletonList(row),
+          StandardCharsets.UTF_8,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write driver commands report " + REPORT_FILE, e);
+    }
+  }
+
+  @Override
+  public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+    CommandCounter counter = getCounter(testResult);
+    if (method.isTestMethod() && counter != null) {
+      counter.reset();
+      // stack walk per command is paid only by tests with a budget
+      counter.setAttributing(getBudget(method, testResult) != null);
+    }
+  }
+
+  @Override
+  public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    CommandCounter counter = getCounter(testResult);
+    if (!method.isTestMethod() || counter == null) {
+      return;
+    }
+    String testName =
+        testResult.getTestClass().getRealClass().getSimpleName() + "." + testResult.getName();
+    counter.setAttributing(false);
+    MaxDriverCommands budget = getBudget(method, testResult);
+    int polling = counter.getPolling();
+    int total = counter.getTotal() - polling;
+    report(
+        String.join(
+            ",",
+            testName,
+            String.valueOf(total),
+            String.valueOf(polling),
+            budget == null ? "" : String.valueOf(budget.value()),
+            format(counter.getByCommand()),
+            format(counter.getByPageObjectMethod())));
+    if (budget == null || total <= budget.value()) {
+      return;
+    }
+    String message =
+        String.format(
+            "Test '%s' sent %d WebDriver commands and %d more while polling, budget is %d."
+                + " By page object method: %s",
+            testName, total, polling, budget.value(), format(counter.getByPageObjectMethod()));
+    if (budget.warnOnly()) {
+      Reporter.log("WARNING: " + message);
+    } else if (testResult.isSuccess()) {
+      testResult.setStatus(ITestResult.FAILURE);
+      testResult.setThrowable(new AssertionError(message));
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.base;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.testng.Reporter;
+import utam.utils.salesforce.LoginHealthProbe;
+import utam.utils.salesforce.TestEnvironment;
+
+/**
+ * Checks an environment with {@link LoginHealthProbe} before a browser is launched for it, once
+ * per JVM for every environment and landing page that tests log in to. Web tests of an environment
+ * that failed the check are skipped instead of waiting for login timeout. Disabled by default,
+ * enable with system property "utam.login.preflight=true"; timeout of every request is set with
+ * "utam.login.preflight.timeoutSeconds" (default is 15).
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+final class LoginPreflight {
+
+  static final String PREFLIGHT_PROPERTY = "utam.login.preflight";
+  static final String TIMEOUT_PROPERTY = "utam.login.preflight.timeoutSeconds";
+  private static final Map<String, CompletableFuture<String>> CHECKS = new ConcurrentHashMap<>();
+
+  private LoginPreflight() {}
+
+  /**
+   * check environment unless it was checked already, concurrent callers share the check
+   *
+   * @param environment test environment
+   * @param landingPagePartialUrl partial url of the page after login, same as in the UI login
+   * @return failure message or null if environment is healthy or check is disabled
+   */
+  static String getFailure(TestEnvironment environment, String landingPagePartialUrl) {
+    if (!Boolean.getBoolean(PREFLIGHT_PROPERTY)) {
+      return null;
+    }
+    Duration timeout = Duration.ofSeconds(Integer.getInteger(TIMEOUT_PROPERTY, 15));
+    CompletableFuture<String> check =
+        CHECKS.computeIfAbsent(
+            environment.getEnvironmentName() + " " + landingPagePartialUrl,
+            key -> new LoginHealthProbe(timeout).check(environment, landingPagePartialUrl));
+    String failure;
+    try {
+      // connect, login and redirects
+      failure = check.get(timeout.toNanos() * 3, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      failure = "Login preflight timed out";
+    } catch (ExecutionException e) {
+      failure = e.getCause().toString();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+    if (failure != null) {
+      Reporter.log(
+          String.format(
+              "Environment '%s' is not usable: %s", environment.getEnvironmentName(), failure),
+          true);
+    }
+    return failure;
+  }
+}
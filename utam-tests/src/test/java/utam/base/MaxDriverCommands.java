@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Budget of WebDriver commands (round trips) for a test method. When set on a class, applies to
+ * every test method without own annotation. Checked by {@link DriverCommandBudgetListener} for
+ * tests extending {@link UtamWebTestBase}.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface MaxDriverCommands {
+
+  /**
+   * maximum number of commands sent by the test method
+   *
+   * @return number of commands
+   */
+  int value();
+
+  /**
+   * only log a warning instead of failing the test when budget is exceeded
+   *
+   * @return true to warn
+   */
+  boolean warnOnly() default false;
+}
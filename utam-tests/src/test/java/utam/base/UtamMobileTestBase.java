@@ -10,6 +10,7 @@ package utam.base;
 import io.appium.java_client.remote.MobileCapabilityType;
 import io.appium.java_client.service.local.AppiumDriverLocalService;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.testng.Reporter;
 import utam.core.driver.DriverType;
 import utam.core.framework.base.RootPageObject;
@@ -21,6 +22,13 @@ import utam.core.framework.context.MobilePlatformType;
 import utam.core.selenium.factory.AppiumCapabilityProvider;
 import utam.core.selenium.factory.AppiumServerFactory;
 import utam.core.selenium.factory.WebDriverFactory;
+import utam.utils.driver.ListeningCommandExecutor;
+import utam.utils.jfr.FlightRecorderListener;
+import utam.utils.jfr.PageObjectEvent;
+import utam.utils.mobile.MobileSession;
+import utam.utils.mobile.WebViewContextIndex;
+import utam.utils.process.DriverProcessRegistry;
+import utam.utils.process.TrackedSession;
 
 /**
  * Base Class for UTAM Mobile tests
@@ -30,11 +38,18 @@ import utam.core.selenium.factory.WebDriverFactory;
  */
 public abstract class UtamMobileTestBase {
 
+  static final String REUSE_SESSION_PROPERTY = "utam.mobile.reuseSession";
+  private static final String BUNDLE_ID = "com.salesforce.chatter";
+
   private AppiumDriverLocalService appiumService;
+  private MobileSession session;
+  private TrackedSession<WebDriver> trackedSession;
   private AppiumCapabilityProvider desiredCapabilities;
   private WebDriver driver;
   private UtamLoaderConfig config;
   private UtamLoader loader;
+  private WebViewContextIndex contextIndex;
+  private String bridgeAppTitle;
 
   static String getUserHomeRelativePath(String fileName) {
     return System.getProperty("user.home") + System.getProperty("file.separator") + fileName;
@@ -44,25 +59,67 @@ public abstract class UtamMobileTestBase {
   private void setupMobile() {
     System.setProperty("nodejs", "/usr/local/bin/node");
     System.setProperty("appium", "/usr/local/lib/node_modules/appium/");
-    System.setProperty("app.bundleid", "com.salesforce.chatter");
+    System.setProperty("app.bundleid", BUNDLE_ID);
 
-    appiumService = AppiumServerFactory.getAppiumServer();
     desiredCapabilities = new AppiumCapabilityProvider();
     // Force to use MJSONWP instead of default W3C
     desiredCapabilities.setDesiredCapability(MobileCapabilityType.FORCE_MJSONWP, true);
   }
 
+  /**
+   * create driver, if system property "utam.mobile.reuseSession" is true, Appium server, driver
+   * and installed app are shared with other test classes of the same platform
+   */
+  private WebDriver createDriver(String platform, DriverType driverType) {
+    if (!Boolean.getBoolean(REUSE_SESSION_PROPERTY)) {
+      appiumService = AppiumServerFactory.getAppiumServer();
+      trackedSession = launch(platform, driverType, appiumService);
+      return trackedSession.get();
+    }
+    session =
+        MobileSession.get(
+            platform,
+            AppiumServerFactory::getAppiumServer,
+            service -> {
+              TrackedSession<WebDriver> tracked = launch(platform, driverType, service);
+              // idle between test classes, stopped when JVM exits
+              tracked.markShared();
+              return tracked.get();
+            },
+            BUNDLE_ID);
+    return session.getDriver();
+  }
+
+  /** start Appium server, its node process is tracked with devices and drivers it spawns */
+  private TrackedSession<WebDriver> launch(
+      String platform, DriverType driverType, AppiumDriverLocalService service) {
+    TrackedSession<WebDriver> tracked =
+        DriverProcessRegistry.getInstance()
+            .launch(
+                platform,
+                service,
+                started -> WebDriverFactory.getWebDriver(driverType, started, desiredCapabilities));
+    if (tracked.get() instanceof RemoteWebDriver) {
+      ListeningCommandExecutor.of(tracked.get()).addListener(tracked);
+    }
+    return tracked;
+  }
+
   private void setLoaderConfig() {
     config = new UtamLoaderConfigImpl("loader.config.json");
     config.setProfile(MobilePlatformType.fromDriver(driver));
     loader = new UtamLoaderImpl(config, driver);
+    contextIndex = WebViewContextIndex.of(driver);
+    if (driver instanceof RemoteWebDriver) {
+      ListeningCommandExecutor.of(driver).addListener(FlightRecorderListener.getInstance());
+    }
   }
 
   protected final void setupAndroid() {
     setupMobile();
     System.setProperty("android.app", getUserHomeRelativePath("SApp.apk"));
     System.setProperty("app.activity", "com.salesforce.chatter.Chatter");
-    driver = WebDriverFactory.getWebDriver(DriverType.android, appiumService, desiredCapabilities);
+    driver = createDriver("android", DriverType.android);
     setLoaderConfig();
   }
 
@@ -71,17 +128,32 @@ public abstract class UtamMobileTestBase {
     System.setProperty("ios.device", "iPhone 8 Plus");
     System.setProperty("ios.app", getUserHomeRelativePath("SApp.app"));
     desiredCapabilities.setDesiredCapability(MobileCapabilityType.PLATFORM_VERSION, "15.2");
-    driver = WebDriverFactory.getWebDriver(DriverType.ios, appiumService, desiredCapabilities);
+    driver = createDriver("ios", DriverType.ios);
     setLoaderConfig();
   }
 
-  /** Quit web driver if it's not null. Method is used in test or suite teardown */
+  /**
+   * Quit web driver if it's not null. Method is used in test or suite teardown. Shared session is
+   * kept for the next test class and stopped when JVM exits
+   */
   protected final void quitDriver() {
-    if (driver != null) {
-      driver.quit();
+    if (session != null) {
+      session = null;
+      return;
     }
-    if (appiumService != null) {
-      appiumService.stop();
+    try {
+      if (driver != null) {
+        driver.quit();
+      }
+      if (appiumService != null) {
+        appiumService.stop();
+      }
+    } finally {
+      if (trackedSession != null) {
+        // kills Appium and driver processes that survived quit
+        trackedSession.close();
+        trackedSession = null;
+      }
     }
   }
 
@@ -93,14 +165,80 @@ public abstract class UtamMobileTestBase {
    * @return instance of the loaded PO
    */
   protected <T extends RootPageObject> T from(Class<T> rootPageObjectType) {
-    return loader.load(rootPageObjectType);
+    boolean watch =
+        contextIndex != null && bridgeAppTitle != null && !contextIndex.isKnown(bridgeAppTitle);
+    if (watch) {
+      contextIndex.watchSwitches();
+    }
+    PageObjectEvent event = PageObjectEvent.start(rootPageObjectType.getName(), "load");
+    T pageObject;
+    try {
+      pageObject = loader.load(rootPageObjectType);
+    } finally {
+      event.commit();
+    }
+    if (watch) {
+      // remember where the framework found the WebView, native loads did not switch anywhere
+      contextIndex.rememberSwitched(bridgeAppTitle);
+    }
+    return pageObject;
   }
 
+  /**
+   * set title of the WebView to load page objects from; if the WebView location is known, driver
+   * is switched to it right away so that the framework finds it without scanning all contexts
+   *
+   * @param title title of the WebView page
+   */
   protected final void setBridgeAppTitle(String title) {
     config.setBridgeAppTitle(title);
+    bridgeAppTitle = title;
+    if (contextIndex != null) {
+      contextIndex.switchToKnownWebView(title);
+    }
     loader.resetContext();
   }
 
+  /** switch driver to native context, for example before loading native page objects */
+  protected final void switchToNativeContext() {
+    if (contextIndex != null) {
+      contextIndex.switchToNative();
+    }
+  }
+
+  /**
+   * save current app state with a name, so that next test class or next run on the same emulator
+   * can restore it instead of repeating the steps, for example after onboarding
+   *
+   * @param name name of the state
+   * @return true if saved, false if session is not shared or device does not support snapshots
+   */
+  protected final boolean saveAppState(String name) {
+    return session != null && session.saveState(name);
+  }
+
+  /**
+   * restore app state saved by previous test class or run
+   *
+   * @param name name of the state
+   * @return true if restored, false if test should repeat the steps
+   */
+  protected final boolean restoreAppState(String name) {
+    if (session != null && session.restoreState(name)) {
+      loader.resetContext();
+      return true;
+    }
+    return false;
+  }
+
+  /** clear app data and restart the app in shared session, same state as after install */
+  protected final void resetAppState() {
+    if (session != null) {
+      session.resetApp();
+      loader.resetContext();
+    }
+  }
+
   /**
    * get instance of the driver
    *
@@ -7,18 +7,55 @@
  */
 package utam.base;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.function.Supplier;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.Listeners;
 import utam.core.driver.Document;
-import utam.core.driver.DriverType;
+import utam.core.framework.base.PageMarker;
+import utam.core.framework.base.PageObject;
 import utam.core.framework.base.RootPageObject;
 import utam.core.framework.consumer.UtamLoader;
 import utam.core.framework.consumer.UtamLoaderConfig;
 import utam.core.framework.consumer.UtamLoaderConfigImpl;
 import utam.core.framework.consumer.UtamLoaderImpl;
-import utam.core.selenium.factory.WebDriverFactory;
+import utam.utils.async.SharedPoller;
+import utam.utils.browser.BrowserLaunchProfile;
+import utam.utils.driver.CommandCounter;
+import utam.utils.driver.ListeningCommandExecutor;
+import utam.utils.grid.SessionRouter;
+import utam.utils.jfr.FlightRecorderListener;
+import utam.utils.jfr.PageObjectEvent;
+import utam.utils.journal.CommandJournal;
+import utam.utils.journal.ReplayCommandExecutor;
+import utam.utils.navigation.NavigationProbe;
+import utam.utils.navigation.NavigationTimingLog;
+import utam.utils.process.DriverProcessRegistry;
+import utam.utils.process.TrackedSession;
+import utam.utils.salesforce.ServerActivityMonitor;
 import utam.utils.salesforce.TestEnvironment;
+import utam.utils.session.SharedBrowserSession;
+import utam.utils.timeout.TimeoutPolicy;
+import utam.utils.timeout.WaitStatistics;
 
 /**
  * Base Class for Web tests
@@ -26,9 +63,20 @@ import utam.utils.salesforce.TestEnvironment;
  * @author salesforce
  * @since Dec 2021
  */
+@Listeners(DriverCommandBudgetListener.class)
 public abstract class UtamWebTestBase {
 
+  // web tests don't need mobile (salesforceapp) injections, see loader.config.json for mobile
+  static final String WEB_LOADER_CONFIG = "loader.web.config.json";
+  static final String JOURNAL_DIR_PROPERTY = "utam.journal.dir";
+
   private WebDriver driver;
+  private NavigationProbe navigationProbe;
+  private CommandJournal commandJournal;
+  private CommandCounter commandCounter;
+  private TimeoutPolicy timeoutPolicy;
+  private ServerActivityMonitor serverActivityMonitor;
+  private TrackedSession<? extends RemoteWebDriver> trackedSession;
   protected UtamLoader loader;
 
   static String getUserHomeRelativePath(String fileName) {
@@ -44,20 +92,120 @@ public abstract class UtamWebTestBase {
     return loader.getDocument();
   }
 
-  /** create chrome driver and setup loader */
+  /** create chrome driver with launch profile from system properties and setup loader */
   protected final void setupChrome() {
+    setupChrome(BrowserLaunchProfile.fromSystemProperties());
+  }
+
+  /**
+   * create chrome driver and setup loader
+   *
+   * @param profile browser launch settings
+   */
+  protected final void setupChrome(BrowserLaunchProfile profile) {
+    if (setupRouted(profile.toChromeOptions())) {
+      return;
+    }
+    setTrackedUtam(launchChrome("chrome", profile));
+  }
+
+  private static TrackedSession<ChromeDriver> launchChrome(
+      String name, BrowserLaunchProfile profile) {
     System.setProperty("webdriver.chrome.driver", getUserHomeRelativePath("chromedriver"));
-    setUtam(WebDriverFactory.getWebDriver(DriverType.chrome));
+    return DriverProcessRegistry.getInstance()
+        .launch(
+            name,
+            ChromeDriverService.createDefaultService(),
+            service -> new ChromeDriver(service, profile.toChromeOptions()));
   }
 
-  /** create firefox driver and setup loader */
+  /** create firefox driver with launch profile from system properties and setup loader */
   protected final void setupFirefox() {
+    setupFirefox(BrowserLaunchProfile.fromSystemProperties());
+  }
+
+  /**
+   * create firefox driver and setup loader
+   *
+   * @param profile browser launch settings
+   */
+  protected final void setupFirefox(BrowserLaunchProfile profile) {
+    if (setupRouted(profile.toFirefoxOptions())) {
+      return;
+    }
     System.setProperty("webdriver.gecko.driver", getUserHomeRelativePath("geckodriver"));
-    setUtam(WebDriverFactory.getWebDriver(DriverType.firefox));
+    setTrackedUtam(
+        DriverProcessRegistry.getInstance()
+            .launch(
+                "firefox",
+                GeckoDriverService.createDefaultService(),
+                service -> new FirefoxDriver(service, profile.toFirefoxOptions())));
+  }
+
+  /**
+   * if system property "utam.router.url" is set, create remote driver with a session placed by
+   * the session router instead of a local driver
+   */
+  private boolean setupRouted(Capabilities capabilities) {
+    String routerUrl = System.getProperty(SessionRouter.ROUTER_URL_PROPERTY);
+    if (routerUrl == null) {
+      return false;
+    }
+    try {
+      setUtam(new RemoteWebDriver(new URL(routerUrl), capabilities));
+    } catch (MalformedURLException e) {
+      throw new IllegalArgumentException("Invalid session router url " + routerUrl, e);
+    }
+    return true;
+  }
+
+  private void setTrackedUtam(TrackedSession<? extends RemoteWebDriver> session) {
+    trackedSession = session;
+    setUtam(session.get());
+    ListeningCommandExecutor.of(session.get()).addListener(session);
+  }
+
+  /**
+   * get own window in chrome browser shared by all tests with the same key and setup loader, quit
+   * releases the window; browser is launched on first call with launch profile from system
+   * properties
+   *
+   * @param sessionKey key of the shared browser, for example environment name
+   * @return shared session, used to authenticate once for all windows
+   */
+  protected final SharedBrowserSession setupSharedChrome(String sessionKey) {
+    SharedBrowserSession session =
+        SharedBrowserSession.get(
+            sessionKey,
+            () -> {
+              TrackedSession<ChromeDriver> tracked =
+                  launchChrome(
+                      "chrome-shared",
+                      BrowserLaunchProfile.fromSystemProperties()
+                          .setDisableBackgroundThrottling(true));
+              // executor of the shared browser is captured with this listener
+              ListeningCommandExecutor.of(tracked.get()).addListener(tracked);
+              // idle while no test has a window, browser quits when JVM exits
+              tracked.markShared();
+              return tracked.get();
+            });
+    setUtam(session.openWindow());
+    return session;
+  }
+
+  /**
+   * setup loader with a driver that replays command journal recorded with system property
+   * "utam.journal.dir", no browser is started
+   *
+   * @param journal path to the journal file
+   */
+  protected final void setupReplay(Path journal) {
+    setUtam(ReplayCommandExecutor.createDriver(journal));
   }
 
   /**
-   * helper method to load any Root Page Object
+   * helper method to load any Root Page Object; if timeouts config has a timeout for the type, root
+   * is awaited with this timeout, explicit timeout of the loader stays default for all other waits
    *
    * @param rootPageObjectType type of the page object to load
    * @param <T> generic bound
@@ -67,13 +215,209 @@ public abstract class UtamWebTestBase {
     if (loader == null) {
       throw new NullPointerException("UtamLoader is not set, please use setDriver method first!");
     }
-    return loader.load(rootPageObjectType);
+    Duration timeout = timeoutPolicy.getTimeout(rootPageObjectType);
+    T pageObject =
+        recorded(
+            rootPageObjectType,
+            "load",
+            timeout,
+            () -> {
+              if (timeout.equals(timeoutPolicy.getDefaultTimeout())) {
+                return loader.load(rootPageObjectType);
+              }
+              // own deadline instead of a loader context, timeout does not leak to other types
+              T created = loader.create(rootPageObjectType);
+              SharedPoller.getInstance().await(created::isPresent, timeout);
+              created.load();
+              return created;
+            });
+    if (navigationProbe != null) {
+      navigationProbe.pageObjectLoaded(rootPageObjectType);
+    }
+    return pageObject;
+  }
+
+  /**
+   * root element of a loaded root page object, found with the CSS selector of its generated
+   * implementation, to scope scripts and lazy lists to the page object, for example
+   * LazyElementList.of(getDriver(), getRootElement(homePage), List.of("header", ".menu", "li"),
+   * wrapper)
+   *
+   * @param pageObject loaded root page object
+   * @return root element
+   */
+  protected final WebElement getRootElement(RootPageObject pageObject) {
+    PageMarker.Find find = pageObject.getClass().getAnnotation(PageMarker.Find.class);
+    if (find == null || find.css().isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Page object %s has no root CSS selector", pageObject.getClass().getSimpleName()));
+    }
+    return getDriver().findElement(By.cssSelector(find.css()));
+  }
+
+  /**
+   * wait for absence of the page object with the timeout from timeouts config, for example
+   * waitForAbsence(RecordActionWrapper.class, recordFormModal); duration is recorded to wait
+   * statistics
+   *
+   * @param pageObjectType type of the page object, used to look up timeout
+   * @param pageObject loaded page object
+   */
+  protected final void waitForAbsence(Class<?> pageObjectType, PageObject pageObject) {
+    waitUntil(pageObjectType, "waitForAbsence", () -> !pageObject.isPresent());
+  }
+
+  /**
+   * poll the condition on the poller shared by all sessions of the JVM instead of a thread per
+   * wait, timeout is looked up in timeouts config; condition is done when it returns a value other
+   * than null or false
+   *
+   * @param pageObjectType type of the page object, used to look up timeout
+   * @param operation condition name, used to look up timeout
+   * @param condition condition, for example () -&gt; item.isPresent()
+   * @param <T> type of the result
+   * @return result of the condition
+   */
+  protected final <T> T waitUntil(
+      Class<?> pageObjectType, String operation, Supplier<T> condition) {
+    Duration timeout = timeoutPolicy.getTimeout(pageObjectType, operation);
+    return recorded(
+        pageObjectType,
+        operation,
+        timeout,
+        () -> SharedPoller.getInstance().await(condition, timeout));
+  }
+
+  /** record duration to wait statistics and to flight recorder if recording is on */
+  private static <T> T recorded(
+      Class<?> pageObjectType, String operation, Duration timeout, Supplier<T> action) {
+    PageObjectEvent event = PageObjectEvent.start(pageObjectType.getName(), operation);
+    long start = System.nanoTime();
+    boolean timedOut = false;
+    try {
+      return action.get();
+    } catch (RuntimeException e) {
+      timedOut = isTimeout(e);
+      throw e;
+    } finally {
+      WaitStatistics.getRunStatistics()
+          .record(
+              pageObjectType.getSimpleName() + "." + operation,
+              timeout,
+              System.nanoTime() - start,
+              timedOut);
+      event.setTimedOut(timedOut).commit();
+    }
+  }
+
+  /**
+   * run test operation that is not a wait, for example login, and emit flight recorder event for it
+   *
+   * @param pageObjectType type of the page object
+   * @param operation operation name
+   * @param action operation
+   */
+  protected final void traced(Class<?> pageObjectType, String operation, Runnable action) {
+    PageObjectEvent event = PageObjectEvent.start(pageObjectType.getName(), operation);
+    try {
+      action.run();
+    } finally {
+      event.commit();
+    }
+  }
+
+  /**
+   * start counting XHR and fetch requests of the current page, call it before the action whose
+   * requests are awaited with waitForServerIdle, for example before click on Save; counting stops
+   * on full page load
+   */
+  protected final void watchServerRequests() {
+    getServerActivityMonitor().install();
+  }
+
+  /**
+   * wait until the page has no pending XHR, fetch or Aura requests, returns as soon as server
+   * traffic settles; requests sent before watchServerRequests are not counted, unless the page
+   * tracks them in Aura; timeout is looked up as ServerActivityMonitor.waitForIdle in timeouts
+   * config
+   */
+  protected final void waitForServerIdle() {
+    Duration timeout = timeoutPolicy.getTimeout(ServerActivityMonitor.class, "waitForIdle");
+    recorded(
+        ServerActivityMonitor.class,
+        "waitForIdle",
+        timeout,
+        () -> {
+          getServerActivityMonitor().waitForIdle(timeout);
+          return null;
+        });
+  }
+
+  private ServerActivityMonitor getServerActivityMonitor() {
+    if (serverActivityMonitor == null) {
+      serverActivityMonitor = new ServerActivityMonitor((JavascriptExecutor) driver);
+    }
+    return serverActivityMonitor;
+  }
+
+  private static boolean isTimeout(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * navigate to the url, if navigation timing is enabled, next loaded page object is recorded with
+   * given label
+   *
+   * @param url url to navigate to
+   * @param label label for navigation timing, for example record type
+   */
+  protected final void navigateTo(String url, String label) {
+    if (navigationProbe != null) {
+      navigationProbe.navigationStarted(label);
+    }
+    driver.get(url);
+    if (ServerActivityMonitor.isEnabled()) {
+      getServerActivityMonitor().install();
+    }
+  }
+
+  /**
+   * navigate to the url
+   *
+   * @param url url to navigate to
+   */
+  protected final void navigateTo(String url) {
+    navigateTo(url, "");
   }
 
   /** Quit web driver if it's not null. Method is used in test or suite teardown */
   protected final void quitDriver() {
-    if (driver != null) {
-      driver.quit();
+    try {
+      if (driver != null) {
+        driver.quit();
+      }
+    } finally {
+      if (trackedSession != null) {
+        // kills browser and driver processes that survived quit
+        trackedSession.close();
+        trackedSession = null;
+      }
+    }
+    WaitStatistics.getRunStatistics().write();
+    if (commandJournal != null) {
+      try {
+        commandJournal.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      log("Command journal: " + commandJournal.getFile());
+      commandJournal = null;
     }
   }
 
@@ -94,13 +438,52 @@ public abstract class UtamWebTestBase {
    */
   final UtamLoader setUtam(WebDriver driver) {
     this.driver = driver;
-    UtamLoaderConfig config = new UtamLoaderConfigImpl("loader.config.json");
-    config.setExplicitTimeout(Duration.ofSeconds(60));
+    serverActivityMonitor = null;
+    // before listeners wrap the executor of the driver
+    boolean replay = isReplay(driver);
+    if (driver instanceof RemoteWebDriver) {
+      commandCounter = new CommandCounter();
+      ListeningCommandExecutor.of(driver).addListener(commandCounter);
+      ListeningCommandExecutor.of(driver).addListener(FlightRecorderListener.getInstance());
+    }
+    String journalDirectory = System.getProperty(JOURNAL_DIR_PROPERTY);
+    if (journalDirectory != null && !replay) {
+      String fileName =
+          String.format("%s-%d.journal", getClass().getSimpleName(), System.currentTimeMillis());
+      commandJournal =
+          CommandJournal.record((RemoteWebDriver) driver, Paths.get(journalDirectory, fileName));
+    }
+    UtamLoaderConfig config = new UtamLoaderConfigImpl(WEB_LOADER_CONFIG);
+    timeoutPolicy = TimeoutPolicy.fromSystemProperties();
+    config.setExplicitTimeout(timeoutPolicy.getDefaultTimeout());
     config.setImplicitTimeout(Duration.ZERO);
     loader = new UtamLoaderImpl(config, driver);
+    if (NavigationProbe.isEnabled()) {
+      navigationProbe = new NavigationProbe(driver, NavigationTimingLog.getRunLog());
+    }
     return loader;
   }
 
+  /**
+   * get counter of commands sent by the current driver, used to check command budgets
+   *
+   * @return counter or null if driver does not support command listeners
+   */
+  final CommandCounter getCommandCounter() {
+    return commandCounter;
+  }
+
+  private static boolean isReplay(WebDriver driver) {
+    if (!(driver instanceof RemoteWebDriver)) {
+      return false;
+    }
+    CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+    while (executor instanceof ListeningCommandExecutor) {
+      executor = ((ListeningCommandExecutor) executor).getDelegate();
+    }
+    return executor instanceof ReplayCommandExecutor;
+  }
+
   /**
    * Get environment properties from resources
    *
@@ -112,6 +495,25 @@ public abstract class UtamWebTestBase {
     return new TestEnvironment(envNamePrefix);
   }
 
+  /**
+   * skip the test if environment fails login preflight, call it before the driver is created so
+   * that no browser is launched for an unusable environment; driver is quit if it was created
+   *
+   * @param testEnvironment environment information
+   * @param landingPagePartialUrl after login, this is partial url that we land in
+   */
+  protected final void checkLoginHealth(
+      TestEnvironment testEnvironment, String landingPagePartialUrl) {
+    String failure = LoginPreflight.getFailure(testEnvironment, landingPagePartialUrl);
+    if (failure != null) {
+      quitDriver();
+      throw new SkipException(
+          String.format(
+              "Environment '%s' failed login preflight: %s",
+              testEnvironment.getEnvironmentName(), failure));
+    }
+  }
+
   /**
    * method that waits for hardcoded time, only for debug
    *
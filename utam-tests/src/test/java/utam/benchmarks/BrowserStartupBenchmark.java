@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import utam.base.UtamWebTestBase;
+import utam.utils.browser.BrowserLaunchProfile;
+import utam.utils.browser.ProcessMemory;
+
+/**
+ * Compares Chrome launch profiles: time to start the browser, time to load first page and resident
+ * memory of driver and browser processes. Not part of the default test run, start with
+ *
+ * <p>mvn test -Dtest=BrowserStartupBenchmark -Dbenchmark.iterations=5
+ * -Dbenchmark.url=https://utam.dev
+ *
+ * <p>Headed profile requires a display, exclude it on CI with -Dbenchmark.profiles=headless
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class BrowserStartupBenchmark extends UtamWebTestBase {
+
+  private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+  private static final String URL = System.getProperty("benchmark.url", "https://utam.dev");
+  private static final List<String> PROFILES =
+      Arrays.asList(System.getProperty("benchmark.profiles", "headed,headless").split(","));
+
+  @DataProvider(name = "profiles")
+  public Object[][] getProfiles() {
+    return new Object[][] {
+      {BrowserLaunchProfile.headed()},
+      {BrowserLaunchProfile.headless()},
+      {BrowserLaunchProfile.headless().setWindowSize("1280x800")}
+    };
+  }
+
+  @Test(dataProvider = "profiles")
+  public void benchmarkChromeStartup(BrowserLaunchProfile profile) {
+    if (!PROFILES.contains(profile.getName())) {
+      log("Skip profile " + profile);
+      return;
+    }
+    long totalStartup = 0;
+    long totalFirstPage = 0;
+    long peakMemoryKb = -1;
+    for (int i = 0; i < ITERATIONS; i++) {
+      long start = System.nanoTime();
+      setupChrome(profile);
+      long started = System.nanoTime();
+      navigateTo(URL);
+      getDomDocument().waitForDocumentReady();
+      long loaded = System.nanoTime();
+      peakMemoryKb =
+          Math.max(peakMemoryKb, ProcessMemory.getDescendantsResidentKb(ProcessHandle.current()));
+      quitDriver();
+      totalStartup += started - start;
+      totalFirstPage += loaded - started;
+    }
+    String result =
+        String.format(
+            "%s: startup %d ms, first page %d ms, peak driver+browser memory %d MB",
+            profile,
+            totalStartup / ITERATIONS / 1_000_000,
+            totalFirstPage / ITERATIONS / 1_000_000,
+            peakMemoryKb < 0 ? -1 : peakMemoryKb / 1024);
+    log(result);
+    System.out.println(result);
+  }
+}
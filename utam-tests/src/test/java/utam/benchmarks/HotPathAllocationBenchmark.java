@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.testng.annotations.Test;
+import utam.benchmarks.pageobjects.FakeGetterImpl;
+import utam.utils.async.SharedPoller;
+import utam.utils.driver.CommandCounter;
+import utam.utils.driver.ListeningCommandExecutor;
+import utam.utils.jfr.FlightRecorderListener;
+
+/**
+ * Bytes allocated per operation on paths that run for every getter call of a polling loop:
+ * command listeners with and without attribution of a command to its page object method, which
+ * is on only while a command budget is checked, and rescheduling of a poll.
+ * Driver is replaced by an executor that returns a prepared response, so only the overhead of
+ * this project is measured. Allocations are read from the per-thread counter of the JVM after a
+ * warm up, similar to the gc profiler of JMH. Not part of the default test run, start with
+ *
+ * <p>mvn test -Dtest=HotPathAllocationBenchmark -Dbenchmark.operations=200000
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class HotPathAllocationBenchmark {
+
+  private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 200_000);
+  private static final int POLLS = 1000;
+
+  private final com.sun.management.ThreadMXBean threads =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private interface Operation {
+
+    void run(int iteration) throws Exception;
+  }
+
+  private long getAllocatedBytes() {
+    return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private void measure(String name, int operations, Operation operation) throws Exception {
+    // warm up, so that measured code is compiled and caches are filled
+    for (int i = 0; i < operations; i++) {
+      operation.run(i);
+    }
+    long allocated = getAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < operations; i++) {
+      operation.run(i);
+    }
+    long duration = System.nanoTime() - start;
+    allocated = getAllocatedBytes() - allocated;
+    System.out.println(
+        String.format(
+            "%s: %.0f bytes/op, %.0f ns/op",
+            name, (double) allocated / operations, (double) duration / operations));
+  }
+
+  @Test
+  public void benchmarkCommandListeners() throws Exception {
+    Response response = new Response();
+    response.setStatus(0);
+    ListeningCommandExecutor executor = new ListeningCommandExecutor(command -> response);
+    CommandCounter counter = new CommandCounter();
+    executor.addListener(counter);
+    executor.addListener(FlightRecorderListener.getInstance());
+    Command command =
+        new Command(
+            new SessionId("benchmark"),
+            DriverCommand.GET_ELEMENT_TEXT,
+            Collections.singletonMap("id", "element"));
+    FakeGetterImpl getter = new FakeGetterImpl(executor, command);
+    measure("command listeners", OPERATIONS, iteration -> getter.getContent());
+    assertEquals(counter.getTotal(), OPERATIONS * 2);
+    counter.reset();
+    counter.setAttributing(true);
+    measure("command listeners, budget checked", OPERATIONS, iteration -> getter.getContent());
+    assertEquals(
+        counter.getByPageObjectMethod(),
+        Collections.singletonMap("FakeGetterImpl.getContent", OPERATIONS * 2));
+  }
+
+  private long getAllThreadsAllocatedBytes() {
+    long total = 0;
+    for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+      total += Math.max(bytes, 0);
+    }
+    return total;
+  }
+
+  private static void pollUntil(SharedPoller poller, int polls) {
+    AtomicInteger evaluations = new AtomicInteger();
+    poller
+        .poll(() -> evaluations.incrementAndGet() == polls, Duration.ZERO, Duration.ofMinutes(1))
+        .join();
+    assertEquals(evaluations.get(), polls);
+  }
+
+  @Test
+  public void benchmarkPollReschedule() {
+    SharedPoller poller = SharedPoller.getInstance();
+    pollUntil(poller, POLLS);
+    // polls run on poller threads, so allocations of all threads are counted
+    long allocated = getAllThreadsAllocatedBytes();
+    long start = System.nanoTime();
+    pollUntil(poller, POLLS);
+    long duration = System.nanoTime() - start;
+    allocated = getAllThreadsAllocatedBytes() - allocated;
+    System.out.println(
+        String.format(
+            "poll reschedule: %.0f bytes/poll, %.0f ns/poll",
+            (double) allocated / POLLS, (double) duration / POLLS));
+  }
+}
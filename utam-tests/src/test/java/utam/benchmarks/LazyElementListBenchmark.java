@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utam.base.UtamWebTestBase;
+import utam.utils.driver.CommandCounter;
+import utam.utils.driver.ListeningCommandExecutor;
+import utam.utils.elements.LazyElementList;
+
+/**
+ * Compares finding all elements of a "returnAll" selector with {@link LazyElementList} on a local
+ * page with a long menu: count of elements and text of the first few elements. Prints time and
+ * number of WebDriver commands per iteration. Needs chromedriver, not part of the default test
+ * run, start with
+ *
+ * <p>mvn test -Dtest=LazyElementListBenchmark -Dbenchmark.listSize=2000
+ * -Dbenchmark.iterations=20
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class LazyElementListBenchmark extends UtamWebTestBase {
+
+  private static final int LIST_SIZE = Integer.getInteger("benchmark.listSize", 2000);
+  private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+  private static final int USED_ELEMENTS = 5;
+  private static final String SELECTOR = "header .menu li";
+
+  private final CommandCounter counter = new CommandCounter();
+
+  private static String getMenuPage() {
+    StringBuilder html = new StringBuilder("<html><body><header><ul class=\"menu\">");
+    for (int i = 0; i < LIST_SIZE; i++) {
+      html.append(String.format("<li>item %d</li>", i));
+    }
+    html.append("</ul></header></body></html>");
+    return "data:text/html;charset=utf-8,"
+        + URLEncoder.encode(html.toString(), StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  @BeforeClass
+  public void setup() {
+    setupChrome();
+    ListeningCommandExecutor.of(getDriver()).addListener(counter);
+    getDriver().get(getMenuPage());
+  }
+
+  @AfterClass
+  public void tearDown() {
+    quitDriver();
+  }
+
+  private interface ListRead {
+
+    /**
+     * read from the list
+     *
+     * @return number of elements
+     */
+    int read();
+  }
+
+  private void measure(String name, ListRead read) {
+    // warm up
+    assertEquals(read.read(), LIST_SIZE);
+    counter.reset();
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      read.read();
+    }
+    long duration = System.nanoTime() - start;
+    System.out.println(
+        String.format(
+            "%s: %d elements, %.1f ms and %d commands per iteration",
+            name, LIST_SIZE, duration / 1e6 / ITERATIONS, counter.getTotal() / ITERATIONS));
+  }
+
+  private static void readFirst(List<WebElement> elements) {
+    for (int i = 0; i < USED_ELEMENTS; i++) {
+      assertEquals(elements.get(i).getText(), "item " + i);
+    }
+  }
+
+  @Test
+  public void benchmarkSize() {
+    measure("find all, size", () -> getDriver().findElements(By.cssSelector(SELECTOR)).size());
+    measure(
+        "lazy list, size",
+        () -> LazyElementList.of(getDriver(), null, SELECTOR, Function.identity()).size());
+  }
+
+  @Test
+  public void benchmarkFirstElements() {
+    measure(
+        "find all, first " + USED_ELEMENTS,
+        () -> {
+          List<WebElement> elements = getDriver().findElements(By.cssSelector(SELECTOR));
+          readFirst(elements);
+          return elements.size();
+        });
+    measure(
+        "lazy list, first " + USED_ELEMENTS,
+        () -> {
+          LazyElementList<WebElement> elements =
+              LazyElementList.of(getDriver(), null, SELECTOR, Function.identity())
+                  .withPageSize(USED_ELEMENTS);
+          readFirst(elements);
+          assertEquals(elements.getWrappedCount(), USED_ELEMENTS);
+          return elements.size();
+        });
+  }
+}
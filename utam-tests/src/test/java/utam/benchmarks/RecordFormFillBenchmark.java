@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import utam.base.UtamWebTestBase;
+import utam.utils.driver.CommandCounter;
+import utam.utils.driver.ListeningCommandExecutor;
+import utam.utils.salesforce.RecordFormFill;
+
+/**
+ * Compares keyboard entry and {@link RecordFormFill} on a local page with the same structure as a
+ * record form: layout, section, rows and items with an input in the shadow root. Prints time and
+ * number of WebDriver commands per form. Needs chromedriver, not part of the default test run,
+ * start with
+ *
+ * <p>mvn test -Dtest=RecordFormFillBenchmark -Dbenchmark.formFields=10 -Dbenchmark.iterations=20
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RecordFormFillBenchmark extends UtamWebTestBase {
+
+  private static final int FORM_FIELDS = Integer.getInteger("benchmark.formFields", 10);
+  private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+  private static final String ITEM_TAG = "records-record-layout-item";
+  private static final String VALUES_SCRIPT =
+      "return Array.prototype.map.call(document.querySelectorAll('" + ITEM_TAG + "'),"
+          + " function(item) { return item.shadowRoot.querySelector('input').value; });";
+
+  private final CommandCounter counter = new CommandCounter();
+  private JavascriptExecutor executor;
+
+  private static String getFormPage() {
+    StringBuilder html = new StringBuilder("<html><body><script>");
+    html.append("['records-lwc-record-layout', 'records-record-layout-section',")
+        .append(" 'records-record-layout-row'].forEach(function(tag) {")
+        .append("  customElements.define(tag, class extends HTMLElement {")
+        .append("    connectedCallback() {")
+        .append("      this.attachShadow({mode: 'open'}).innerHTML = '<slot></slot>';")
+        .append("    }")
+        .append("  });")
+        .append("});")
+        .append("customElements.define('" + ITEM_TAG + "', class extends HTMLElement {")
+        .append("  connectedCallback() {")
+        .append("    this.attachShadow({mode: 'open'}).innerHTML = '<label>'")
+        .append("      + this.getAttribute('field-label') + '</label><input type=\"text\">';")
+        .append("  }")
+        .append("});")
+        .append("</script><records-lwc-record-layout><records-record-layout-section>");
+    for (int i = 1; i <= FORM_FIELDS; i++) {
+      html.append(
+          String.format(
+              "<records-record-layout-row><%s field-label=\"Field %d\"></%s>"
+                  + "</records-record-layout-row>",
+              ITEM_TAG, i, ITEM_TAG));
+    }
+    html.append("</records-record-layout-section></records-lwc-record-layout></body></html>");
+    return "data:text/html;charset=utf-8,"
+        + URLEncoder.encode(html.toString(), StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  private static List<String> getValues(int iteration) {
+    List<String> values = new ArrayList<>();
+    for (int i = 1; i <= FORM_FIELDS; i++) {
+      values.add(String.format("value %d of field %d", iteration, i));
+    }
+    return values;
+  }
+
+  @BeforeClass
+  public void setup() {
+    setupChrome();
+    executor = (JavascriptExecutor) getDriver();
+    ListeningCommandExecutor.of(getDriver()).addListener(counter);
+  }
+
+  @BeforeMethod
+  public void openForm() {
+    getDriver().get(getFormPage());
+  }
+
+  @AfterClass
+  public void tearDown() {
+    quitDriver();
+  }
+
+  private interface FormFill {
+
+    void fill(List<String> values);
+  }
+
+  private void measure(String name, FormFill fill) {
+    // warm up
+    fill.fill(getValues(0));
+    counter.reset();
+    long start = System.nanoTime();
+    for (int i = 1; i <= ITERATIONS; i++) {
+      fill.fill(getValues(i));
+    }
+    long duration = System.nanoTime() - start;
+    int commands = counter.getTotal();
+    assertEquals(executor.executeScript(VALUES_SCRIPT), getValues(ITERATIONS));
+    System.out.println(
+        String.format(
+            "%s: %d fields, %.1f ms and %d commands per form",
+            name,
+            FORM_FIELDS,
+            duration / 1e6 / ITERATIONS,
+            commands / ITERATIONS));
+  }
+
+  @Test
+  public void benchmarkKeyboard() {
+    measure(
+        "keyboard",
+        values -> {
+          for (int i = 0; i < values.size(); i++) {
+            // one round trip for lookup, page objects need one per shadow root on the path
+            WebElement input =
+                (WebElement)
+                    executor.executeScript(
+                        "return document.querySelectorAll('"
+                            + ITEM_TAG
+                            + "')[arguments[0]].shadowRoot.querySelector('input');",
+                        i);
+            input.clear();
+            input.sendKeys(values.get(i));
+          }
+        });
+  }
+
+  @Test
+  public void benchmarkScript() {
+    measure(
+        "script",
+        values -> {
+          RecordFormFill formFill = new RecordFormFill();
+          for (int i = 0; i < values.size(); i++) {
+            formFill.set("Field " + (i + 1), values.get(i));
+          }
+          formFill.apply(executor);
+        });
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utam.utils.async.SharedPoller;
+
+/**
+ * Number of concurrent sessions one JVM can drive when waits park a thread per session compared
+ * to {@link SharedPoller}. Every session does a few waits against a local fixture server that
+ * answers "false" until the wait is a second old, like a page that renders after a server round
+ * trip. Prints wall time and peak number of threads for every number of sessions; sessions are
+ * supported while wall time stays close to the time of one session. Not part of the default test
+ * run, start with
+ *
+ * <p>mvn test -Dtest=SessionCapacityBenchmark -Dbenchmark.sessions=100,1000,5000
+ *
+ * <p>With JDK 21 or newer add -Putam-virtual-threads to run polls on virtual threads.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SessionCapacityBenchmark {
+
+  private static final List<Integer> SESSIONS =
+      Arrays.stream(System.getProperty("benchmark.sessions", "100,1000,3000").split(","))
+          .map(String::trim)
+          .map(Integer::valueOf)
+          .collect(Collectors.toList());
+  private static final int WAITS_PER_SESSION = 3;
+  private static final Duration READY_AFTER = Duration.ofSeconds(1);
+  private static final Duration INTERVAL = Duration.ofMillis(200);
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private HttpServer server;
+  private ExecutorService serverThreads;
+  private HttpClient client;
+  private String baseUrl;
+
+  @BeforeClass
+  public void startFixtureServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+    server.createContext(
+        "/ready",
+        exchange -> {
+          long since = Long.parseLong(exchange.getRequestURI().getQuery().substring(6));
+          byte[] body =
+              String.valueOf(System.currentTimeMillis() - since >= READY_AFTER.toMillis())
+                  .getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    serverThreads = Executors.newFixedThreadPool(16);
+    server.setExecutor(serverThreads);
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort() + "/ready?since=";
+    client = HttpClient.newHttpClient();
+  }
+
+  @AfterClass
+  public void stopFixtureServer() {
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  /** one poll of the condition, same cost as a WebDriver command */
+  private boolean isReady(long since) {
+    try {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + since)).build();
+      return Boolean.parseBoolean(client.send(request, BodyHandlers.ofString()).body());
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private interface SessionRunner {
+
+    /**
+     * start all sessions
+     *
+     * @param sessions number of sessions
+     * @param completed incremented when a session is done
+     * @return future completed when all sessions are done
+     */
+    CompletableFuture<Void> start(int sessions, AtomicInteger completed);
+  }
+
+  private void measure(String name, SessionRunner runner) {
+    for (int sessions : SESSIONS) {
+      threads.resetPeakThreadCount();
+      int baseline = threads.getThreadCount();
+      AtomicInteger completed = new AtomicInteger();
+      long start = System.nanoTime();
+      String result;
+      try {
+        runner.start(sessions, completed).join();
+        assertEquals(completed.get(), sessions);
+        result = String.format("%.1f s", (System.nanoTime() - start) / 1e9);
+      } catch (OutOfMemoryError | RuntimeException e) {
+        result = "failed after " + completed.get() + " sessions: " + e;
+      }
+      System.out.println(
+          String.format(
+              "%s: %d sessions, %s (one session %d s), peak extra threads %d",
+              name,
+              sessions,
+              result,
+              READY_AFTER.getSeconds() * WAITS_PER_SESSION,
+              threads.getPeakThreadCount() - baseline));
+    }
+  }
+
+  @Test
+  public void benchmarkThreadPerSession() {
+    measure(
+        "thread per session",
+        (sessions, completed) -> {
+          List<CompletableFuture<Void>> all = new ArrayList<>();
+          for (int i = 0; i < sessions; i++) {
+            CompletableFuture<Void> session = new CompletableFuture<>();
+            Thread thread =
+                new Thread(
+                    () -> {
+                      try {
+                        for (int wait = 0; wait < WAITS_PER_SESSION; wait++) {
+                          long since = System.currentTimeMillis();
+                          // same as waitFor of page objects: poll and sleep on own thread
+                          while (!isReady(since)) {
+                            Thread.sleep(INTERVAL.toMillis());
+                          }
+                        }
+                        completed.incrementAndGet();
+                        session.complete(null);
+                      } catch (Throwable e) {
+                        session.completeExceptionally(e);
+                      }
+                    });
+            thread.setDaemon(true);
+            thread.start();
+            all.add(session);
+          }
+          return CompletableFuture.allOf(all.toArray(new CompletableFuture[0]));
+        });
+  }
+
+  @Test
+  public void benchmarkSharedPoller() {
+    SharedPoller poller = SharedPoller.getInstance();
+    measure(
+        SharedPoller.isVirtualThreads() ? "shared poller, virtual threads" : "shared poller",
+        (sessions, completed) -> {
+          List<CompletableFuture<Void>> all = new ArrayList<>();
+          for (int i = 0; i < sessions; i++) {
+            CompletableFuture<Boolean> session = CompletableFuture.completedFuture(true);
+            for (int wait = 0; wait < WAITS_PER_SESSION; wait++) {
+              session =
+                  session.thenCompose(
+                      previous -> {
+                        long since = System.currentTimeMillis();
+                        return poller.poll(() -> isReady(since), INTERVAL, TIMEOUT);
+                      });
+            }
+            all.add(session.thenRun(completed::incrementAndGet));
+          }
+          return CompletableFuture.allOf(all.toArray(new CompletableFuture[0]));
+        });
+  }
+}
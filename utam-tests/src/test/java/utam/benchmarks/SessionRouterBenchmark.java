@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utam.utils.grid.RouterSlot;
+import utam.utils.grid.SessionRouter;
+
+/**
+ * Runs {@link SessionRouter} against driver nodes started as separate JVM processes. Node is a
+ * minimal WebDriver endpoint that answers after a fixed delay, so that router overhead is visible.
+ * More clients than slots start sessions at the same time; prints queue depth, sessions and
+ * latency of every slot and overhead of a command sent through the router compared to a direct
+ * one. Not part of the default test run, start with
+ *
+ * <p>mvn test -Dtest=SessionRouterBenchmark -Dbenchmark.nodes=3 -Dbenchmark.clients=12
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SessionRouterBenchmark {
+
+  private static final int NODES = Integer.getInteger("benchmark.nodes", 3);
+  private static final int SESSIONS_PER_NODE = 2;
+  private static final int CLIENTS = Integer.getInteger("benchmark.clients", 12);
+  private static final int COMMANDS = Integer.getInteger("benchmark.commands", 200);
+  private static final long NODE_DELAY_MILLIS = 2;
+
+  private final List<Process> nodes = new ArrayList<>();
+  private final List<URI> nodeUrls = new ArrayList<>();
+  private SessionRouter router;
+
+  @BeforeClass
+  public void startNodes() throws IOException {
+    String java = String.join(File.separator, System.getProperty("java.home"), "bin", "java");
+    for (int i = 0; i < NODES; i++) {
+      Process node =
+          new ProcessBuilder(
+                  java,
+                  "-cp",
+                  System.getProperty("java.class.path"),
+                  DriverNode.class.getName(),
+                  String.valueOf(NODE_DELAY_MILLIS))
+              .redirectErrorStream(true)
+              .start();
+      nodes.add(node);
+      // node prints its url when it is ready
+      BufferedReader out =
+          new BufferedReader(new InputStreamReader(node.getInputStream(), StandardCharsets.UTF_8));
+      nodeUrls.add(URI.create(out.readLine().trim()));
+    }
+    router = SessionRouter.start(0, Duration.ofMinutes(1));
+    nodeUrls.forEach(url -> router.addSlot(url, SESSIONS_PER_NODE));
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void stopNodes() {
+    if (router != null) {
+      router.close();
+    }
+    nodes.forEach(Process::destroyForcibly);
+  }
+
+  private static RemoteWebDriver newSession(URI url) {
+    try {
+      return new RemoteWebDriver(url.toURL(), new ImmutableCapabilities("browserName", "fake"));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * run commands in a new session
+   *
+   * @return average command round trip in nanoseconds
+   */
+  private static long runSession(URI url) {
+    RemoteWebDriver driver = newSession(url);
+    try {
+      long start = System.nanoTime();
+      for (int i = 0; i < COMMANDS; i++) {
+        driver.getTitle();
+      }
+      return (System.nanoTime() - start) / COMMANDS;
+    } finally {
+      driver.quit();
+    }
+  }
+
+  @Test
+  public void benchmarkRouter() {
+    long direct = runSession(nodeUrls.get(0));
+    ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    List<CompletableFuture<Long>> sessions = new ArrayList<>();
+    long start = System.nanoTime();
+    for (int i = 0; i < CLIENTS; i++) {
+      sessions.add(CompletableFuture.supplyAsync(() -> runSession(router.getUrl()), clients));
+    }
+    long routed =
+        (long) sessions.stream().mapToLong(CompletableFuture::join).average().orElse(0);
+    long duration = System.nanoTime() - start;
+    clients.shutdown();
+
+    System.out.println(
+        String.format(
+            "%d clients on %d nodes x %d slots: %.1f s, max queue depth %d",
+            CLIENTS, NODES, SESSIONS_PER_NODE, duration / 1e9, router.getMaxQueueDepth()));
+    System.out.println(
+        String.format(
+            "command round trip: direct %.2f ms, routed %.2f ms, overhead %.2f ms",
+            direct / 1e6, routed / 1e6, (routed - direct) / 1e6));
+    long commands = 0;
+    for (RouterSlot slot : router.getSlots()) {
+      System.out.println(
+          String.format(
+              "  %s: %d commands, latency avg %.2f ms, max %.2f ms",
+              slot.getUrl(),
+              slot.getCommands(),
+              slot.getAverageLatencyMillis(),
+              slot.getMaxLatencyMillis()));
+      assertTrue(slot.getCommands() > 0, "no sessions were placed on " + slot.getUrl());
+      assertEquals(slot.getActiveSessions(), 0);
+      commands += slot.getCommands();
+    }
+    // new session, commands and quit of every client
+    assertEquals(commands, (long) CLIENTS * (COMMANDS + 2));
+    assertEquals(router.getQueueDepth(), 0);
+  }
+
+  /** minimal WebDriver endpoint started in a separate JVM */
+  public static class DriverNode {
+
+    /**
+     * start node on a free port and print its url
+     *
+     * @param args delay of every response in milliseconds
+     * @throws IOException if port can't be bound
+     */
+    public static void main(String[] args) throws IOException {
+      long delay = Long.parseLong(args[0]);
+      HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 128);
+      server.createContext(
+          "/session",
+          exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            String path = exchange.getRequestURI().getPath();
+            String body;
+            if ("/session".equals(path)) {
+              body =
+                  String.format(
+                      "{\"value\": {\"sessionId\": \"%s\", \"capabilities\": "
+                          + "{\"browserName\": \"fake\"}}}",
+                      UUID.randomUUID());
+            } else if (path.endsWith("/title")) {
+              body = "{\"value\": \"node " + server.getAddress().getPort() + "\"}";
+            } else {
+              body = "{\"value\": null}";
+            }
+            try {
+              Thread.sleep(delay);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+              out.write(bytes);
+            }
+          });
+      server.setExecutor(Executors.newCachedThreadPool());
+      server.start();
+      System.out.println(new URL("http", "localhost", server.getAddress().getPort(), ""));
+    }
+  }
+}
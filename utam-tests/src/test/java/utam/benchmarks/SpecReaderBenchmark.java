@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import static org.testng.Assert.assertEquals;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utam.utils.spec.SpecReader;
+import utam.utils.spec.SpecVisitor;
+
+/**
+ * Compares tree model and streaming {@link SpecReader} on a synthetic spec with deeply nested
+ * shadow elements, similar to generated flexipage specs: peak live heap while reading one file
+ * and throughput. Not part of the default test run, start with
+ *
+ * <p>mvn test -Dtest=SpecReaderBenchmark -Dbenchmark.specSizeMb=8 -Dbenchmark.iterations=5
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SpecReaderBenchmark {
+
+  private static final int SPEC_SIZE_MB = Integer.getInteger("benchmark.specSizeMb", 8);
+  private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+  private static final int DEPTH = 6;
+  private static final int FAN_OUT = 3;
+  private static final int SAMPLE_EVERY = 5_000;
+
+  private final List<MemoryPoolMXBean> heapPools =
+      ManagementFactory.getMemoryPoolMXBeans().stream()
+          .filter(pool -> pool.getType() == MemoryType.HEAP)
+          .collect(Collectors.toList());
+  private Path spec;
+  private int elementsCount;
+
+  @BeforeClass
+  public void generateSpec() throws IOException {
+    spec = Files.createTempFile("synthetic", ".utam.json");
+    try (FileOutputStream out = new FileOutputStream(spec.toFile());
+        JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(out)) {
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      generator.writeBooleanField("root", true);
+      generator.writeObjectFieldStart("selector");
+      generator.writeStringField("css", "one-record-home-flexipage2");
+      generator.writeEndObject();
+      generator.writeObjectFieldStart("shadow");
+      generator.writeArrayFieldStart("elements");
+      int subtree = 0;
+      do {
+        writeElement(generator, "region" + subtree++, 1);
+        generator.flush();
+      } while (out.getChannel().size() < SPEC_SIZE_MB * 1024L * 1024L);
+      generator.writeEndArray();
+      generator.writeEndObject();
+      generator.writeArrayFieldStart("methods");
+      for (int i = 0; i < subtree; i++) {
+        generator.writeStartObject();
+        generator.writeStringField("name", "getRegionText" + i);
+        generator.writeArrayFieldStart("compose");
+        generator.writeStartObject();
+        generator.writeStringField("element", "region" + i);
+        generator.writeStringField("apply", "getText");
+        generator.writeEndObject();
+        generator.writeEndArray();
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+
+  private void writeElement(JsonGenerator generator, String name, int depth) throws IOException {
+    elementsCount++;
+    generator.writeStartObject();
+    generator.writeStringField("name", name);
+    generator.writeStringField("type", "utam-flexipage/pageObjects/component2");
+    generator.writeBooleanField("public", true);
+    generator.writeObjectFieldStart("selector");
+    generator.writeStringField("css", String.format("flexipage-component2[data-id='%s']", name));
+    generator.writeEndObject();
+    generator.writeObjectFieldStart("description");
+    generator.writeStringField("text", "generated component " + name);
+    generator.writeEndObject();
+    if (depth < DEPTH) {
+      generator.writeObjectFieldStart("shadow");
+      generator.writeArrayFieldStart("elements");
+      for (int i = 0; i < FAN_OUT; i++) {
+        writeElement(generator, name + "_" + i, depth + 1);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    generator.writeEndObject();
+  }
+
+  @AfterClass
+  public void deleteSpec() throws IOException {
+    Files.deleteIfExists(spec);
+  }
+
+  private static int countElements(JsonNode node) {
+    int count = 0;
+    for (JsonNode element : node.path("elements")) {
+      count += 1 + countElements(element);
+    }
+    for (JsonNode element : node.path("shadow").path("elements")) {
+      count += 1 + countElements(element);
+    }
+    return count;
+  }
+
+  private interface SpecParse {
+
+    /**
+     * parse the spec
+     *
+     * @param sample called while parsed data is reachable, to measure live heap
+     * @return number of elements
+     */
+    int parse(Runnable sample) throws IOException;
+  }
+
+  private long getUsedHeap() {
+    return heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+  }
+
+  private void measure(String name, SpecParse parse) throws IOException {
+    // warm up
+    assertEquals(parse.parse(() -> {}), elementsCount);
+    // live heap: collect garbage at sample points, so that only reachable data is counted
+    System.gc();
+    long baseline = getUsedHeap();
+    long[] peak = {0};
+    parse.parse(
+        () -> {
+          System.gc();
+          peak[0] = Math.max(peak[0], getUsedHeap() - baseline);
+        });
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      parse.parse(() -> {});
+    }
+    long duration = System.nanoTime() - start;
+    double megabytes = Files.size(spec) / 1024.0 / 1024.0;
+    String result =
+        String.format(
+            "%s: %.1f MB spec, %d elements, %.1f MB/s, peak live heap %.1f MB",
+            name,
+            megabytes,
+            elementsCount,
+            megabytes * ITERATIONS / (duration / 1e9),
+            peak[0] / 1024.0 / 1024.0);
+    System.out.println(result);
+  }
+
+  @Test
+  public void benchmarkTreeModel() throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+    measure(
+        "tree model",
+        sample -> {
+          JsonNode tree = mapper.readTree(spec.toFile());
+          sample.run();
+          return countElements(tree);
+        });
+  }
+
+  @Test
+  public void benchmarkStreaming() throws IOException {
+    SpecReader reader = new SpecReader();
+    measure(
+        "streaming",
+        sample -> {
+          AtomicInteger count = new AtomicInteger();
+          reader.read(
+              spec,
+              new SpecVisitor() {
+                @Override
+                public void element(JsonNode properties, int depth, int shadowDepth) {
+                  if (count.incrementAndGet() % SAMPLE_EVERY == 0) {
+                    sample.run();
+                  }
+                }
+              });
+          return count.get();
+        });
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.pageobjects;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Stands in for a generated page object getter: package name makes command listeners attribute
+ * commands to "FakeGetterImpl.getContent", same as commands of real page objects.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class FakeGetterImpl {
+
+  private final CommandExecutor executor;
+  private final Command command;
+
+  public FakeGetterImpl(CommandExecutor executor, Command command) {
+    this.executor = executor;
+    this.command = command;
+  }
+
+  public Response getContent() {
+    try {
+      return executor.execute(command);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -20,6 +20,9 @@ import utam.salesforceapp.pageobjects.authentication.LoginNavBarOptions;
 
 public class SalesforceAppAndroidTests extends UtamMobileTestBase {
 
+  // app state after EULA and connection setup, restored in a reused session on emulator
+  private static final String CONNECTION_STATE = "connection";
+
   @BeforeTest
   public void setUp() {
     setupAndroid();
@@ -27,6 +30,19 @@ public class SalesforceAppAndroidTests extends UtamMobileTestBase {
 
   @Test
   public void testSetDataConnection() {
+    if (restoreAppState(CONNECTION_STATE)) {
+      log("Restored app state with the connection, onboarding is skipped");
+      setBridgeAppTitle("Login | Salesforce");
+    } else {
+      setDataConnection();
+      saveAppState(CONNECTION_STATE);
+    }
+
+    log("Load Login page");
+    from(Login.class);
+  }
+
+  private void setDataConnection() {
     from(Eula.class).accept();
 
     LoginNavBar navBar = from(LoginNavBar.class);
@@ -46,9 +62,6 @@ public class SalesforceAppAndroidTests extends UtamMobileTestBase {
 
     log("Navigate back via the soft back button");
     getDriver().navigate().back();
-
-    log("Load Login page");
-    from(Login.class);
   }
 
   @AfterTest
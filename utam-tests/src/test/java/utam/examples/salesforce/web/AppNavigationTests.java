@@ -10,6 +10,7 @@ package utam.examples.salesforce.web;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
+import utam.base.MaxDriverCommands;
 import utam.global.pageobjects.AppNavBar;
 import utam.navex.pageobjects.DesktopLayoutContainer;
 import utam.utils.salesforce.TestEnvironment;
@@ -22,19 +23,21 @@ import utam.utils.salesforce.TestEnvironment;
  * @author Salesforce
  * @since June 2022
  */
+@MaxDriverCommands(value = 60, warnOnly = true)
 public class AppNavigationTests extends SalesforceWebTestBase {
 
   private final TestEnvironment testEnvironment = getTestEnvironment("sandbox");
 
   @BeforeTest
   public void setup() {
+    checkLoginHealth(testEnvironment, "home");
     setupChrome();
     login(testEnvironment, "home");
   }
 
   @Test
   public void testNavigateToNavBarItem() {
-    getDriver().get(testEnvironment.getRedirectUrl());
+    navigateTo(testEnvironment.getRedirectUrl());
     log("Load Desktop layout container");
     DesktopLayoutContainer layoutContainer = from(DesktopLayoutContainer.class);
 
@@ -45,7 +48,7 @@ public class AppNavigationTests extends SalesforceWebTestBase {
 
   @Test
   public void testNavigateToNavBarOverflowItem() {
-    getDriver().get(testEnvironment.getRedirectUrl());
+    navigateTo(testEnvironment.getRedirectUrl());
     log("Load Desktop layout container");
     DesktopLayoutContainer layoutContainer = from(DesktopLayoutContainer.class);
 
@@ -20,8 +20,8 @@ import utam.global.pageobjects.RecordActionWrapper;
 import utam.global.pageobjects.RecordHomeFlexipage2;
 import utam.lightning.pageobjects.BaseCombobox;
 import utam.records.pageobjects.BaseRecordForm;
-import utam.records.pageobjects.LwcRecordLayout;
 import utam.records.pageobjects.RecordLayoutItem;
+import utam.utils.salesforce.RecordFormFill;
 import utam.utils.salesforce.RecordType;
 import utam.utils.salesforce.TestEnvironment;
 
@@ -39,6 +39,7 @@ public class RecordCreationTests extends SalesforceWebTestBase {
 
   @BeforeTest
   public void setup() {
+    checkLoginHealth(testEnvironment, "home");
     setupChrome();
     login(testEnvironment, "home");
   }
@@ -51,7 +52,7 @@ public class RecordCreationTests extends SalesforceWebTestBase {
   private RecordActionWrapper openRecordModal(RecordType recordType) {
 
     log("Navigate to an Object Home for " + recordType.name());
-    getDriver().get(recordType.getObjectHomeUrl(testEnvironment.getRedirectUrl()));
+    navigateTo(recordType, recordType.getObjectHomeUrl(testEnvironment.getRedirectUrl()));
 
     log("Load Accounts Object Home page");
     ConsoleObjectHome objectHome = from(ConsoleObjectHome.class);
@@ -78,10 +79,10 @@ public class RecordCreationTests extends SalesforceWebTestBase {
 
     log("Load Record Form Modal");
     BaseRecordForm recordForm = recordFormModal.getRecordForm();
-    LwcRecordLayout recordLayout = recordForm.getRecordLayout();
+    RecordLayoutSnapshot recordLayout = snapshot(recordForm.getRecordLayout());
 
-    log("Access record form item by index");
-    RecordLayoutItem item = recordLayout.getItem(1, 2, 1);
+    log("Access record form item by field label");
+    RecordLayoutItem item = recordLayout.getItem("Account Name");
 
     log("Enter account name");
     final String accountName = "Utam";
@@ -89,7 +90,7 @@ public class RecordCreationTests extends SalesforceWebTestBase {
 
     log("Save new record");
     recordForm.clickFooterButton("Save");
-    recordFormModal.waitForAbsence();
+    waitForAbsence(RecordActionWrapper.class, recordFormModal);
 
     log("Load Accounts Record Home page");
     from(RecordHomeFlexipage2.class);
@@ -99,30 +100,30 @@ public class RecordCreationTests extends SalesforceWebTestBase {
   public void testOpportunityRecordCreation() {
     RecordActionWrapper recordFormModal = openRecordModal(RecordType.Opportunity);
     BaseRecordForm recordForm = recordFormModal.getRecordForm();
-    LwcRecordLayout recordLayout = recordForm.getRecordLayout();
+    RecordLayoutSnapshot recordLayout = snapshot(recordForm.getRecordLayout());
 
     log("Enter 'Close date' as 01/01/2024");
-    RecordLayoutItem closeDateItem = recordLayout.getItem(1, 2, 2);
+    RecordLayoutItem closeDateItem = recordLayout.getItem("Close Date");
     closeDateItem.getDatepicker().setDateText("01/01/2024");
 
+    log("Enter opportunity name");
+    fillForm(new RecordFormFill().set("Opportunity Name", "Opportunity name"));
+
     log("Pick first option in a 'Stage' combobox");
-    RecordLayoutItem stageItem = recordLayout.getItem(1, 4, 2);
+    RecordLayoutItem stageItem = recordLayout.getItem("Stage");
     BaseCombobox stageCombobox = stageItem.getStageNamePicklist().getBaseCombobox();
     stageCombobox.expandForDisabledInput();
     stageCombobox.pickItem(2);
 
     log("Find and pick first account, link it to the opportunity");
-    RecordLayoutItem accountLookupItem = recordLayout.getItem(1, 4, 1);
+    RecordLayoutItem accountLookupItem = recordLayout.getItem("Account Name");
     BaseCombobox accountLookup = accountLookupItem.getLookup().getBaseCombobox();
     accountLookup.expand();
     accountLookup.pickItem(1);
 
-    log("Enter opportunity name");
-    RecordLayoutItem nameItem = recordLayout.getItem(1, 3, 1);
-    nameItem.getTextInput().setText("Opportunity name");
     log("Save new record");
     recordForm.clickFooterButton("Save");
-    recordFormModal.waitForAbsence();
+    waitForAbsence(RecordActionWrapper.class, recordFormModal);
 
     log("Load Accounts Record Home page");
     from(RecordHomeFlexipage2.class);
@@ -140,29 +141,17 @@ public class RecordCreationTests extends SalesforceWebTestBase {
 
     log("Load Record Form Modal");
     BaseRecordForm recordForm = recordFormModal.getRecordForm();
-    LwcRecordLayout recordLayout = recordForm.getRecordLayout();
-
-    log("Access record form item by index");
-    RecordLayoutItem item1 = recordLayout.getItem(1, 2, 1);
-
-    log("Enter account name");
-    final String accountName = "Gayathri's Utam Test";
-    item1.getTextInput().setText(accountName);
-
-    RecordLayoutItem item2 = recordLayout.getItem(1, 4, 1);
-    log("Enter account number");
-    final String accountNumber = "132456788";
-    item2.getTextInput().setText(accountNumber);
-
 
-    RecordLayoutItem item3 = recordLayout.getItem(1, 2, 2);
-    log("Enter phone number");
-    final String phone = "9238294";
-    item3.getTextInput().setText(phone);
+    log("Enter account name, account number and phone number");
+    fillForm(
+        new RecordFormFill()
+            .set(1, 2, 1, "Gayathri's Utam Test")
+            .set(1, 4, 1, "132456788")
+            .set(1, 2, 2, "9238294"));
 
     log("Cancel record");
     recordForm.clickFooterButton("Cancel");
-    recordFormModal.waitForAbsence();
+    waitForAbsence(RecordActionWrapper.class, recordFormModal);
 
   }
 
@@ -178,10 +167,9 @@ public class RecordCreationTests extends SalesforceWebTestBase {
 
     log("Load Record Form Modal");
     BaseRecordForm recordForm = recordFormModal.getRecordForm();
-    LwcRecordLayout recordLayout = recordForm.getRecordLayout();
 
     log("Access record form item by index");
-    RecordLayoutItem item = recordLayout.getItem(1, 2, 1);
+    RecordLayoutItem item = recordForm.getRecordLayout().getItem(1, 2, 1);
 
     log("Enter account name");
     final String leadName = "TS's Utam Test";
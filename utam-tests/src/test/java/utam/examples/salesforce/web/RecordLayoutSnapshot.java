@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.examples.salesforce.web;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.openqa.selenium.JavascriptExecutor;
+import utam.records.pageobjects.LwcRecordLayout;
+import utam.records.pageobjects.RecordLayoutItem;
+import utam.utils.elements.RootElements;
+import utam.utils.salesforce.RecordLayoutField;
+import utam.utils.salesforce.RecordLayoutScan;
+
+/**
+ * Record layout with items accessed by field label. Positions and labels of all items of this
+ * layout are read in one script call on first access by label, instead of walking the layout to
+ * find the field. Generated items can only be built by the layout page object, so an item is
+ * taken from it once per field and then reused.
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+final class RecordLayoutSnapshot {
+
+  private final LwcRecordLayout layout;
+  private final JavascriptExecutor executor;
+  private final Map<RecordLayoutField, RecordLayoutItem> items = new HashMap<>();
+  private RecordLayoutScan scan;
+
+  RecordLayoutSnapshot(LwcRecordLayout layout, JavascriptExecutor executor) {
+    this.layout = layout;
+    this.executor = executor;
+  }
+
+  private RecordLayoutScan getScan() {
+    if (scan == null) {
+      // scoped to this layout, another layout can be open in a modal
+      scan = RecordLayoutScan.scan(executor, RootElements.of(layout));
+    }
+    return scan;
+  }
+
+  /**
+   * get item by field label, position is resolved from the scan, item is built once per field
+   *
+   * @param label field label, case insensitive, for example "Account Name"
+   * @return layout item
+   */
+  RecordLayoutItem getItem(String label) {
+    RecordLayoutField field = getScan().getByLabel(label);
+    if (field == null) {
+      throw new IllegalArgumentException(
+          String.format("Field '%s' is not found in record layout, known: %s", label, getLabels()));
+    }
+    return items.computeIfAbsent(
+        field, key -> layout.getItem(key.getSection(), key.getRow(), key.getColumn()));
+  }
+
+  List<String> getLabels() {
+    return getScan().getFields().stream()
+        .map(RecordLayoutField::getLabel)
+        .collect(Collectors.toList());
+  }
+}
@@ -13,8 +13,10 @@ import java.text.DateFormat;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
@@ -43,6 +45,8 @@ import utam.records.pageobjects.RecordLayoutItem;
 import utam.runtime_sales.pageobjects.PathAssistantTab;
 import utam.runtime_sales.pageobjects.PathAssistantTabSet;
 import utam.runtime_sales.pageobjects.PathassistantCollapsibleDrawer;
+import utam.utils.async.ScriptBatch;
+import utam.utils.elements.RootElements;
 import utam.utils.salesforce.RecordType;
 import utam.utils.salesforce.TestEnvironment;
 
@@ -60,6 +64,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
 
   @BeforeTest
   public void setup() {
+    checkLoginHealth(testEnvironment, "home");
     setupChrome();
     login(testEnvironment, "home");
   }
@@ -67,7 +72,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
   private void gotoRecordHomeByUrl(RecordType recordType, String recordId) {
     String recordHomeUrl = recordType.getRecordHomeUrl(testEnvironment.getRedirectUrl(), recordId);
     log("Navigate to the Record Home by URL: " + recordHomeUrl);
-    getDriver().get(recordHomeUrl);
+    navigateTo(recordType, recordHomeUrl);
   }
 
   @Test
@@ -100,7 +105,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
 
     log("Save updated record");
     recordForm.clickFooterButton("Save");
-    recordFormModal.waitForAbsence();
+    waitForAbsence(RecordActionWrapper.class, recordFormModal);
   }
 
   @Test
@@ -138,8 +143,11 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
         .getActionRendererWithTitle("Save")
         .getHeadlessAction()
         .getLightningButton();
+    watchServerRequests();
     saveButton.click();
-    saveButton.waitForAbsence();
+    log("Wait until save request is done");
+    waitForServerIdle();
+    waitForAbsence(Button.class, saveButton);
 
     log("Wait for field to be updated");
     nameItem.waitForOutputField();
@@ -184,7 +192,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
 
     log("Save updated record");
     recordForm.clickFooterButton("Save");
-    recordFormModal.waitForAbsence();
+    waitForAbsence(RecordActionWrapper.class, recordFormModal);
   }
 
   @Test
@@ -240,7 +248,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
 
   @Test
   public void leadListPage() throws InterruptedException {
-    getDriver().get(testEnvironment.getRedirectUrl());
+    navigateTo(testEnvironment.getRedirectUrl());
     log("Load Desktop layout container");
     DesktopLayoutContainer layoutContainer = from(DesktopLayoutContainer.class);
 
@@ -249,13 +257,19 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
     navBar.getNavItem("Lead").clickAndWaitForUrl("Lead");
 
 
-    VirtualDataTableImpl table = loader.load(ObjectHome.class)
+    VirtualDataTableImpl table = from(ObjectHome.class)
             .getListView()
             .getListViewContainer(VirtualDataTableImpl.class);
 
-    int rowsCount = table.getRowsCount();
-    int columnsCount = table.getColumnsCount();
-    List<String> headerTitles = table.getHeaderTitles();
+    log("Read rows, columns and header titles of the list in one script call");
+    ScriptBatch batch = new ScriptBatch(RootElements.of(table));
+    CompletableFuture<Integer> rows = batch.count("tbody tr");
+    CompletableFuture<Integer> columns = batch.count("thead th");
+    CompletableFuture<List<String>> titles = batch.getTexts("thead th span.slds-truncate");
+    batch.execute((JavascriptExecutor) getDriver());
+    int rowsCount = rows.join();
+    int columnsCount = columns.join();
+    List<String> headerTitles = titles.join();
 
     System.out.println("rowsCount: " + rowsCount);
     System.out.println("columnsCount: " + columnsCount);
@@ -298,7 +312,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
 
   @Test
   public void filterLeads() throws InterruptedException {
-    getDriver().get(testEnvironment.getRedirectUrl());
+    navigateTo(testEnvironment.getRedirectUrl());
     log("Load Desktop layout container");
     DesktopLayoutContainer layoutContainer = from(DesktopLayoutContainer.class);
 
@@ -307,7 +321,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
     navBar.getNavItem("Lead").clickAndWaitForUrl("Lead");
 
 
-    VirtualDataTableImpl table = loader.load(ObjectHome.class)
+    VirtualDataTableImpl table = from(ObjectHome.class)
             .getListView()
             .getListViewContainer(VirtualDataTableImpl.class);
 
@@ -359,7 +373,7 @@ public class RecordUpdateTests extends SalesforceWebTestBase {
 
     log("Save updated record");
     recordForm.clickFooterButton("Save");
-    recordFormModal.waitForAbsence();
+    waitForAbsence(RecordActionWrapper.class, recordFormModal);
   }
 
   @AfterTest
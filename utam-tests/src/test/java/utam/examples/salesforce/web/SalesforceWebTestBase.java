@@ -7,10 +7,14 @@
  */
 package utam.examples.salesforce.web;
 
+import org.openqa.selenium.JavascriptExecutor;
 import utam.base.UtamWebTestBase;
 import utam.core.driver.Document;
+import utam.core.framework.consumer.UtamLoader;
 import utam.core.framework.context.StringValueProfile;
 import utam.helpers.pageobjects.Login;
+import utam.records.pageobjects.LwcRecordLayout;
+import utam.utils.salesforce.RecordFormFill;
 import utam.utils.salesforce.RecordType;
 import utam.utils.salesforce.TestEnvironment;
 
@@ -24,16 +28,21 @@ abstract class SalesforceWebTestBase extends UtamWebTestBase {
 
   /**
    * login to the environment based on url and credentials provided in env.properties file which
-   * should be located in test resources root
+   * should be located in test resources root; check the environment with checkLoginHealth before
+   * the driver is created
    *
    * @param testEnvironment environment information
    * @param landingPagePartialUrl after login, this is partial url that we land in
    */
   final void login(TestEnvironment testEnvironment, String landingPagePartialUrl) {
+    traced(Login.class, "login", () -> uiLogin(testEnvironment, landingPagePartialUrl));
+  }
+
+  private void uiLogin(TestEnvironment testEnvironment, String landingPagePartialUrl) {
     final String baseUrl = testEnvironment.getBaseUrl();
     final String userName = testEnvironment.getUserName();
     log("Navigate to login URL: " + baseUrl);
-    getDriver().get(baseUrl);
+    navigateTo(baseUrl, "login");
     Login loginPage = from(Login.class);
     log(
         String.format(
@@ -41,11 +50,61 @@ abstract class SalesforceWebTestBase extends UtamWebTestBase {
             userName, landingPagePartialUrl));
     loginPage.login(userName, testEnvironment.getPassword());
     Document document = getDomDocument();
-    document.waitFor(() -> document.getUrl().contains(landingPagePartialUrl));
+    waitUntil(Login.class, "waitForUrl", () -> document.getUrl().contains(landingPagePartialUrl));
+  }
+
+  /**
+   * get own window in the browser shared by all tests of the environment, login happens once in
+   * the first window, other windows share its cookies
+   *
+   * @param testEnvironment environment information
+   * @param landingPagePartialUrl after login, this is partial url that we land in
+   */
+  final void setupSharedSession(TestEnvironment testEnvironment, String landingPagePartialUrl) {
+    checkLoginHealth(testEnvironment, landingPagePartialUrl);
+    setupSharedChrome(testEnvironment.getBaseUrl())
+        .authenticate(() -> login(testEnvironment, landingPagePartialUrl));
+  }
+
+  /**
+   * navigate to the url related to the record type, for example object or record home
+   *
+   * @param recordType record type, used as a label for navigation timing
+   * @param url url to navigate to
+   */
+  final void navigateTo(RecordType recordType, String url) {
+    navigateTo(url, recordType.name());
+  }
+
+  /**
+   * access items of the record layout by field label, labels are read in one pass on first access
+   *
+   * @param recordLayout record layout
+   * @return snapshot that resolves labels to positions
+   */
+  final RecordLayoutSnapshot snapshot(LwcRecordLayout recordLayout) {
+    return new RecordLayoutSnapshot(recordLayout, (JavascriptExecutor) getDriver());
+  }
+
+  /**
+   * set values of record form fields with one script call, fields with custom keyboard handling
+   * like lookups should be filled with page objects
+   *
+   * @param values values by field label or position
+   */
+  final void fillForm(RecordFormFill values) {
+    values.apply((JavascriptExecutor) getDriver());
   }
 
   final void setProfile(RecordType recordType) {
-    loader.getConfig().setProfile(new StringValueProfile("entity", recordType.name().toLowerCase()));
-    loader.resetContext();
+    traced(
+        UtamLoader.class,
+        "setProfile",
+        () -> {
+          loader
+              .getConfig()
+              .setProfile(new StringValueProfile("entity", recordType.name().toLowerCase()));
+          loader.resetContext();
+        });
   }
 }
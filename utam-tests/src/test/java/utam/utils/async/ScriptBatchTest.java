@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.async;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+/**
+ * Reads of a batch are sent in one executeScript call and complete their futures, no browser is
+ * needed: executor records calls and answers with fixed results
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class ScriptBatchTest {
+
+  private final List<Object[]> calls = new ArrayList<>();
+
+  private JavascriptExecutor executor(List<Object> results) {
+    calls.clear();
+    return (JavascriptExecutor)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {JavascriptExecutor.class},
+            (proxy, method, args) -> {
+              calls.add((Object[]) args[1]);
+              return results;
+            });
+  }
+
+  private static WebElement element() {
+    return (WebElement)
+        Proxy.newProxyInstance(
+            ScriptBatchTest.class.getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+              throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  @Test
+  public void testReadsAreSentInOneCall() {
+    WebElement table = element();
+    ScriptBatch batch = new ScriptBatch(table);
+    CompletableFuture<Integer> rows = batch.count("tbody tr");
+    CompletableFuture<Integer> columns = batch.count("thead th");
+    CompletableFuture<List<String>> titles = batch.getTexts("thead th span");
+    batch.execute(
+        executor(
+            Arrays.asList(
+                value(25L),
+                value(3L),
+                value(Arrays.asList("Name", "Company", "Status")))));
+
+    assertEquals(calls.size(), 1);
+    Object[] args = calls.get(0);
+    // arguments of every read, then scope
+    assertEquals(args.length, 4);
+    // arguments of a read are a list with its shadow path
+    assertEquals(args[0], Collections.singletonList(Collections.singletonList("tbody tr")));
+    assertSame(args[3], table);
+    assertEquals(rows.join(), Integer.valueOf(25));
+    assertEquals(columns.join(), Integer.valueOf(3));
+    assertEquals(titles.join(), Arrays.asList("Name", "Company", "Status"));
+  }
+
+  @Test
+  public void testFailedReadDoesNotFailOthers() {
+    ScriptBatch batch = new ScriptBatch();
+    CompletableFuture<String> missing = batch.getText("lightning-input", "input");
+    CompletableFuture<String> title = batch.getAttribute("title", "lightning-button");
+    batch.execute(
+        executor(
+            Arrays.asList(
+                Collections.singletonMap("error", "TypeError: scope is null"),
+                value("Save"))));
+
+    assertEquals(calls.size(), 1);
+    assertEquals(calls.get(0)[2], null, "batch without scope searches in the document");
+    CompletionException error = expectThrows(CompletionException.class, missing::join);
+    assertTrue(error.getCause().getMessage().contains("TypeError"));
+    assertEquals(title.join(), "Save");
+  }
+
+  @Test
+  public void testEmptyBatchSendsNothing() {
+    new ScriptBatch().execute(executor(Collections.<Object>emptyList()));
+    assertTrue(calls.isEmpty());
+  }
+
+  @Test
+  public void testScriptFailureCompletesAllReads() {
+    ScriptBatch batch = new ScriptBatch();
+    CompletableFuture<Integer> rows = batch.count("tbody tr");
+    JavascriptExecutor failing =
+        (JavascriptExecutor)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {JavascriptExecutor.class},
+                (proxy, method, args) -> {
+                  throw new IllegalStateException("javascript error");
+                });
+    expectThrows(IllegalStateException.class, () -> batch.execute(failing));
+    assertTrue(rows.isCompletedExceptionally());
+  }
+
+  @Test
+  public void testScriptStartsAtScope() {
+    ScriptBatch batch = new ScriptBatch();
+    batch.count("li");
+    String script = batch.getScript();
+    assertTrue(script.startsWith("var root = arguments[1];"), script);
+    assertTrue(script.contains("var scope = root;"), script);
+  }
+
+  private static Map<String, Object> value(Object value) {
+    return Collections.singletonMap("value", value);
+  }
+}
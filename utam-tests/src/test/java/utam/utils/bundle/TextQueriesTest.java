@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.bundle;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+/**
+ * Query scripts built from a bundle in test resources and fallbacks to the page object method, no
+ * browser is needed: driver records scripts and answers with a fixed result
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class TextQueriesTest {
+
+  // bundle has '%' in a selector
+  private static final String BUNDLE = "test/textQueries/getWidth";
+  // compiled getContent of wireGetObjectInfo, a component without root selector
+  private static final String COMPONENT_BUNDLE = "test/textQueries/getContent";
+  private static final String JSON = "{\"fields\": {\"Name\": {\"label\": \"Full Name\"}}}";
+
+  private final List<String> scripts = new ArrayList<>();
+  private final List<Object[]> arguments = new ArrayList<>();
+
+  private WebDriver driver(Object result) {
+    return (WebDriver)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> {
+              if (!"executeScript".equals(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+              }
+              scripts.add((String) args[0]);
+              arguments.add((Object[]) args[1]);
+              if (result instanceof RuntimeException) {
+                throw (RuntimeException) result;
+              }
+              return result;
+            });
+  }
+
+  @Test
+  public void testBundleIsRunWithQuery() {
+    scripts.clear();
+    assertTrue(
+        TextQueries.containsText(driver(true), null, BUNDLE, () -> "not called", "width"));
+    assertEquals(scripts.size(), 1);
+    String script = scripts.get(0);
+    assertTrue(
+        script.contains(ScriptBundles.getScript(BUNDLE).orElseThrow().trim()),
+        "bundle should be in the script as it is: " + script);
+    assertTrue(script.startsWith("var text = (function() { "));
+  }
+
+  private static WebElement host() {
+    return (WebElement)
+        Proxy.newProxyInstance(
+            TextQueriesTest.class.getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+              throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  private static String notCalled() {
+    throw new AssertionError("fallback should not be called");
+  }
+
+  @Test
+  public void testComponentBundleRunsFromHost() {
+    scripts.clear();
+    arguments.clear();
+    WebElement host = host();
+    assertTrue(
+        TextQueries.containsText(
+            driver(true), host, COMPONENT_BUNDLE, TextQueriesTest::notCalled, "Contact"));
+    assertEquals(scripts.size(), 1);
+    assertTrue(scripts.get(0).contains(ScriptBundleCompiler.NO_ROOT_SELECTOR));
+    // root, kind of the check and query
+    assertEquals(arguments.get(0), new Object[] {host, "contains", "Contact"});
+  }
+
+  @Test
+  public void testComponentBundleRejectsNullRoot() {
+    scripts.clear();
+    expectThrows(
+        IllegalArgumentException.class,
+        () ->
+            TextQueries.containsText(
+                driver(true), null, COMPONENT_BUNDLE, TextQueriesTest::notCalled, "Contact"));
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> ScriptBundles.call(driver(true), null, COMPONENT_BUNDLE, TextQueriesTest::notCalled));
+    assertTrue(scripts.isEmpty());
+  }
+
+  @Test
+  public void testFallbackWithoutBundle() {
+    scripts.clear();
+    String bundle = "test/textQueries/missing";
+    WebDriver driver = driver(true);
+    assertTrue(TextQueries.containsText(driver, null, bundle, () -> JSON, "Full Name"));
+    assertFalse(TextQueries.matchesRegex(driver, null, bundle, () -> JSON, "Last\\s+Name"));
+    assertEquals(
+        TextQueries.extractJson(driver, null, bundle, () -> JSON, "fields.Name.label"),
+        "\"Full Name\"");
+    assertNull(TextQueries.extractJson(driver, null, bundle, () -> JSON, "fields.Email"));
+    assertTrue(scripts.isEmpty());
+  }
+
+  @Test
+  public void testFallbackWhenScriptFails() {
+    WebDriver driver = driver(new WebDriverException("element is not rendered"));
+    assertEquals(
+        TextQueries.extractJson(driver, null, BUNDLE, () -> JSON, "fields.Name.label"),
+        "\"Full Name\"");
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.elements;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Count and paging of the lazy list, no browser is needed: driver answers the find script from a
+ * list of fake elements and records script arguments
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class LazyElementListTest {
+
+  private final List<WebElement> elements = new ArrayList<>();
+  private final List<Object[]> arguments = new ArrayList<>();
+  private final List<WebElement> wrapped = new ArrayList<>();
+  private final Function<WebElement, String> wrapper =
+      element -> {
+        wrapped.add(element);
+        return element.toString();
+      };
+
+  @BeforeMethod
+  public void reset() {
+    elements.clear();
+    arguments.clear();
+    wrapped.clear();
+  }
+
+  private static WebElement element(String name) {
+    return (WebElement)
+        Proxy.newProxyInstance(
+            LazyElementListTest.class.getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+              if ("toString".equals(method.getName())) {
+                return name;
+              }
+              throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  private void addElements(int count) {
+    for (int i = 0; i < count; i++) {
+      elements.add(element("item " + elements.size()));
+    }
+  }
+
+  // arguments of the find script: scope, shadow root, parents, selector, page start, page end
+  private WebDriver driver() {
+    return (WebDriver)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> {
+              if (!"executeScript".equals(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+              }
+              Object[] scriptArgs = (Object[]) args[1];
+              arguments.add(scriptArgs);
+              int start = (Integer) scriptArgs[4];
+              if (start < 0) {
+                return (long) elements.size();
+              }
+              int end = Math.min((Integer) scriptArgs[5], elements.size());
+              return Arrays.asList(
+                  (long) elements.size(), new ArrayList<>(elements.subList(start, end)));
+            });
+  }
+
+  @Test
+  public void testSizeIsCountedWithoutFetchingElements() {
+    addElements(120);
+    LazyElementList<String> list = LazyElementList.of(driver(), null, "li", wrapper);
+    assertEquals(list.size(), 120);
+    assertEquals(list.size(), 120);
+    assertEquals(list.getRoundTrips(), 1);
+    assertEquals(list.getWrappedCount(), 0);
+    assertTrue(wrapped.isEmpty());
+  }
+
+  @Test
+  public void testElementsAreFetchedAndWrappedByPage() {
+    addElements(25);
+    LazyElementList<String> list =
+        LazyElementList.of(driver(), null, "li", wrapper).withPageSize(10);
+    assertEquals(list.get(0), "item 0");
+    assertEquals(list.get(9), "item 9");
+    // count and first page
+    assertEquals(list.getRoundTrips(), 2);
+    assertEquals(list.getWrappedCount(), 10);
+    assertEquals(list.get(24), "item 24");
+    assertEquals(list.getRoundTrips(), 3);
+    assertEquals(list.getWrappedCount(), 15);
+    assertEquals(arguments.get(2)[4], 20);
+    assertEquals(arguments.get(2)[5], 30);
+    assertEquals(list.get(10), "item 10");
+    assertEquals(list.getRoundTrips(), 4);
+    assertEquals(wrapped.size(), 25);
+  }
+
+  @Test
+  public void testIterationFetchesEveryPageOnce() {
+    addElements(7);
+    LazyElementList<String> list =
+        LazyElementList.of(driver(), null, "li", wrapper).withPageSize(3);
+    List<String> all = new ArrayList<>(list);
+    assertEquals(all.size(), 7);
+    assertEquals(all.get(6), "item 6");
+    assertEquals(list.getRoundTrips(), 4);
+    assertEquals(wrapped.size(), 7);
+  }
+
+  @Test
+  public void testIndexOutOfBounds() {
+    addElements(3);
+    LazyElementList<String> list = LazyElementList.of(driver(), null, "li", wrapper);
+    IndexOutOfBoundsException e =
+        expectThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    assertEquals(e.getMessage(), "Index 3 is out of bounds for 3 elements 'li'");
+    assertEquals(list.getRoundTrips(), 1);
+  }
+
+  @Test
+  public void testChangedCountNeedsRefresh() {
+    addElements(5);
+    LazyElementList<String> list =
+        LazyElementList.of(driver(), null, "li", wrapper).withPageSize(2);
+    list.get(0);
+    addElements(1);
+    IllegalStateException e = expectThrows(IllegalStateException.class, () -> list.get(2));
+    assertEquals(e.getMessage(), "Number of elements 'li' changed from 5 to 6, refresh the list");
+    list.refresh();
+    assertEquals(list.size(), 6);
+    assertEquals(list.get(5), "item 5");
+  }
+
+  @Test
+  public void testSelectorChainIsPassedAsParentsAndSelector() {
+    addElements(2);
+    LazyElementList<String> list =
+        LazyElementList.of(driver(), null, List.of("header", ".menu", "li"), wrapper);
+    list.get(1);
+    for (Object[] args : arguments) {
+      assertNull(args[0]);
+      assertEquals(args[1], false);
+      assertEquals(args[2], List.of("header", ".menu"));
+      assertEquals(args[3], "li");
+    }
+    // page size is kept with the chain
+    LazyElementList<String> paged = list.withPageSize(1);
+    paged.get(1);
+    assertEquals(arguments.get(arguments.size() - 1)[2], List.of("header", ".menu"));
+  }
+
+  @Test
+  public void testSingleSelectorHasNoParents() {
+    addElements(1);
+    LazyElementList.inShadowRoot(driver(), element("host"), "li", wrapper).size();
+    assertEquals(arguments.get(0)[1], true);
+    assertEquals(arguments.get(0)[2], List.of());
+    assertEquals(arguments.get(0)[3], "li");
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> LazyElementList.of(driver(), null, List.of(), wrapper));
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> LazyElementList.of(driver(), null, "li", wrapper).withPageSize(0));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.elements;
+
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+import java.lang.reflect.Proxy;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+import utam.core.framework.base.PageObject;
+
+/**
+ * Root element is unwrapped from protected getters of the framework base classes, modeled here by
+ * small classes with the same shape: page object, page element and element adapter
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RootElementsTest {
+
+  private static final WebElement WEB_ELEMENT =
+      (WebElement)
+          Proxy.newProxyInstance(
+              RootElementsTest.class.getClassLoader(),
+              new Class<?>[] {WebElement.class},
+              (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+              });
+
+  static class ElementAdapter {
+    public WebElement getWebElement() {
+      return WEB_ELEMENT;
+    }
+  }
+
+  static class BasePageElement {
+    protected ElementAdapter getElement() {
+      return new ElementAdapter();
+    }
+  }
+
+  static class BasePageObject {
+    protected BasePageElement getRootElement() {
+      return new BasePageElement();
+    }
+  }
+
+  // generated implementation of a component without own selector
+  static final class WireGetObjectInfoImpl extends BasePageObject {}
+
+  @Test
+  public void testRootIsUnwrappedToWebElement() {
+    assertSame(RootElements.unwrap(new WireGetObjectInfoImpl()), WEB_ELEMENT);
+  }
+
+  @Test
+  public void testPageObjectWithoutRootGetterFails() {
+    PageObject pageObject =
+        (PageObject)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {PageObject.class},
+                (proxy, method, args) -> null);
+    expectThrows(IllegalStateException.class, () -> RootElements.of(pageObject));
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.graph;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Selection of impacted tests for a small repository with specs in "tests" and "portal" namespaces
+ * and external types of salesforce-pageobjects, no browser is needed
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class TestImpactAnalysisTest {
+
+  private static final String CHILD_SPEC = TestImpactAnalysis.SPEC_ROOT + "/tests/child.utam.json";
+  private static final String HOME_SPEC = TestImpactAnalysis.SPEC_ROOT + "/portal/home.utam.json";
+  private static final String PARENT_TESTS = "utam.examples.ParentTests";
+  private static final String PORTAL_TESTS = "utam.examples.PortalTests";
+  private static final String GLOBAL_TESTS = "utam.examples.GlobalTests";
+
+  private Path root;
+  private TestImpactAnalysis analysis;
+
+  private void write(String path, String content) throws IOException {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @BeforeClass
+  public void setup() throws IOException {
+    root = Files.createTempDirectory("utam-impact");
+    write(
+        TestImpactAnalysis.COMPILER_CONFIG,
+        "{\"namespaces\": ["
+            + "{\"typeMatch\": \"utam-tests\", \"pathMatch\": \".*/tests\"},"
+            + "{\"typeMatch\": \"utam-portal\", \"pathMatch\": \".*/portal\"}]}");
+    write(CHILD_SPEC, "{\"root\": true}");
+    write(
+        TestImpactAnalysis.SPEC_ROOT + "/tests/parent.utam.json",
+        "{\"root\": true, \"elements\": "
+            + "[{\"name\": \"child\", \"type\": \"utam-tests/pageObjects/child\"}]}");
+    write(HOME_SPEC, "{\"root\": true}");
+    analysis =
+        new TestImpactAnalysis(
+            root,
+            SpecDependencyGraph.build(
+                root.resolve(TestImpactAnalysis.SPEC_ROOT),
+                root.resolve(TestImpactAnalysis.COMPILER_CONFIG)));
+    analysis.add("utam.base.BaseTest", "public abstract class BaseTest {}");
+    analysis.add(
+        PARENT_TESTS,
+        "import utam.tests.pageobjects.Parent;\n"
+            + "public class ParentTests extends BaseTest {\n"
+            + "  @Test public void test() { from(Parent.class); }\n"
+            + "}");
+    analysis.add(
+        PORTAL_TESTS,
+        "import utam.portal.pageobjects.*;\n"
+            + "public class PortalTests extends BaseTest {\n"
+            + "  @Test public void test() { from(Home.class); }\n"
+            + "}");
+    analysis.add(
+        GLOBAL_TESTS,
+        "import utam.global.pageobjects.*;\n"
+            + "public class GlobalTests {\n"
+            + "  @Test public void test() { from(RecordHomeFlexipage2.class); }\n"
+            + "}");
+    analysis.add("utam.examples.Helper", "public class Helper {}");
+  }
+
+  @AfterClass
+  public void cleanup() throws IOException {
+    try (Stream<Path> files = Files.walk(root)) {
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private Set<String> getImpactedTests(List<String> changedFiles, String... pomChanges) {
+    return new TreeSet<>(
+        analysis.getImpactedTests(changedFiles, Arrays.asList(pomChanges)).keySet());
+  }
+
+  private static List<String> testSource(String className) {
+    return Collections.singletonList(
+        TestImpactAnalysis.TEST_SOURCES + "/" + className.replace('.', '/') + ".java");
+  }
+
+  private static Set<String> tests(String... classNames) {
+    return new TreeSet<>(Arrays.asList(classNames));
+  }
+
+  @Test
+  public void testChangedSpecSelectsTestsOfDependentTypes() {
+    assertEquals(getImpactedTests(Collections.singletonList(CHILD_SPEC)), tests(PARENT_TESTS));
+  }
+
+  @Test
+  public void testWildcardImportUsesEveryTypeOfPackage() {
+    assertEquals(getImpactedTests(Collections.singletonList(HOME_SPEC)), tests(PORTAL_TESTS));
+    assertEquals(analysis.getPageObjectTypes(GLOBAL_TESTS), tests("utam.global.pageobjects.*"));
+  }
+
+  @Test
+  public void testPageObjectsVersionSelectsTestsOfExternalTypes() {
+    assertEquals(
+        getImpactedTests(
+            Collections.singletonList("pom.xml"),
+            "-    <salesforce.pageobjects.version>1.0</salesforce.pageobjects.version>",
+            "+    <salesforce.pageobjects.version>1.1</salesforce.pageobjects.version>"),
+        tests(GLOBAL_TESTS));
+  }
+
+  @Test
+  public void testChangedTestClassSelectsItself() {
+    assertEquals(getImpactedTests(testSource("utam.examples.ParentTests")), tests(PARENT_TESTS));
+  }
+
+  @Test
+  public void testChangedBaseClassSelectsSubclasses() {
+    assertEquals(
+        getImpactedTests(testSource("utam.base.BaseTest")), tests(PARENT_TESTS, PORTAL_TESTS));
+  }
+
+  @Test
+  public void testChangedHelperSelectsAllTests() {
+    Set<String> all = tests(PARENT_TESTS, PORTAL_TESTS, GLOBAL_TESTS);
+    assertEquals(getImpactedTests(testSource("utam.examples.Helper")), all);
+    // deleted or unknown source
+    assertEquals(getImpactedTests(testSource("utam.examples.Gone")), all);
+  }
+
+  @Test
+  public void testDocumentationSelectsNothingAndBuildSelectsAll() {
+    assertEquals(getImpactedTests(Arrays.asList("README.md", ".github/CODEOWNERS")), tests());
+    assertEquals(
+        getImpactedTests(
+            Collections.singletonList("utam-tests/pom.xml"), "+    <version>2</version>"),
+        tests(PARENT_TESTS, PORTAL_TESTS, GLOBAL_TESTS));
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.grid;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Session router in front of local servers that answer like a driver
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SessionRouterTest {
+
+  private static final String NEW_SESSION = "{\"capabilities\": {}}";
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private final List<HttpServer> slots = new ArrayList<>();
+  private final AtomicInteger sessionCounter = new AtomicInteger();
+  private SessionRouter router;
+
+  @AfterMethod
+  public void stop() {
+    if (router != null) {
+      router.close();
+    }
+    slots.forEach(slot -> slot.stop(0));
+    slots.clear();
+  }
+
+  private URI startSlot() throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/session",
+        exchange -> {
+          exchange.getRequestBody().readAllBytes();
+          String body =
+              "/session".equals(exchange.getRequestURI().getPath())
+                  ? String.format(
+                      "{\"value\": {\"sessionId\": \"session%d\", \"capabilities\": {}}}",
+                      sessionCounter.incrementAndGet())
+                  : "{\"value\": null}";
+          byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, bytes.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+          }
+        });
+    server.start();
+    slots.add(server);
+    return URI.create("http://localhost:" + server.getAddress().getPort());
+  }
+
+  private URI getUnreachableSlot() throws IOException {
+    // port was free a moment ago and nothing listens on it now
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return URI.create("http://localhost:" + socket.getLocalPort());
+    }
+  }
+
+  private HttpResponse<String> send(String method, String path, String body)
+      throws IOException, InterruptedException {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(router.getUrl() + path))
+            .method(
+                method,
+                body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    return client.send(request, BodyHandlers.ofString());
+  }
+
+  private String newSession() throws IOException, InterruptedException {
+    HttpResponse<String> response = send("POST", "/session", NEW_SESSION);
+    assertEquals(response.statusCode(), 200, response.body());
+    return SessionRouter.getSessionId(response.body().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testNewSessionIsPlacedOnLeastLoadedSlot() throws Exception {
+    router = SessionRouter.start(0, Duration.ofSeconds(5), Duration.ZERO);
+    router.addSlot(startSlot(), 2).addSlot(startSlot(), 2);
+    newSession();
+    newSession();
+    assertEquals(router.getSlots().get(0).getActiveSessions(), 1);
+    assertEquals(router.getSlots().get(1).getActiveSessions(), 1);
+  }
+
+  @Test
+  public void testDeleteSessionReleasesSlot() throws Exception {
+    router = SessionRouter.start(0, Duration.ofSeconds(5), Duration.ZERO);
+    router.addSlot(startSlot(), 1);
+    String sessionId = newSession();
+    assertEquals(send("GET", "/session/" + sessionId + "/url", null).statusCode(), 200);
+    assertEquals(router.getSlots().get(0).getActiveSessions(), 1);
+    assertEquals(send("DELETE", "/session/" + sessionId, null).statusCode(), 200);
+    assertEquals(router.getSlots().get(0).getActiveSessions(), 0);
+    assertEquals(send("GET", "/session/" + sessionId + "/url", null).statusCode(), 404);
+  }
+
+  @Test
+  public void testNewSessionWaitsForFreeSlot() throws Exception {
+    router = SessionRouter.start(0, Duration.ofSeconds(10), Duration.ZERO);
+    router.addSlot(startSlot(), 1);
+    String first = newSession();
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return newSession();
+              } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (router.getQueueDepth() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(router.getQueueDepth(), 1);
+    assertFalse(second.isDone());
+    send("DELETE", "/session/" + first, null);
+    String secondId = second.get(5, TimeUnit.SECONDS);
+    assertEquals(send("GET", "/session/" + secondId + "/url", null).statusCode(), 200);
+    assertEquals(router.getMaxQueueDepth(), 1);
+    assertEquals(router.getSlots().get(0).getActiveSessions(), 1);
+  }
+
+  @Test
+  public void testNewSessionTimesOutWhenSlotsAreFull() throws Exception {
+    router = SessionRouter.start(0, Duration.ofMillis(200), Duration.ZERO);
+    router.addSlot(startSlot(), 1);
+    newSession();
+    HttpResponse<String> response = send("POST", "/session", NEW_SESSION);
+    assertEquals(response.statusCode(), 500);
+    assertTrue(response.body().contains("session not created"), response.body());
+  }
+
+  @Test
+  public void testUnreachableSlotFailsNewSession() throws Exception {
+    router = SessionRouter.start(0, Duration.ofSeconds(5), Duration.ZERO);
+    router.addSlot(getUnreachableSlot(), 1);
+    HttpResponse<String> response = send("POST", "/session", NEW_SESSION);
+    assertEquals(response.statusCode(), 500);
+    assertTrue(response.body().contains("\"session not created\""), response.body());
+    assertTrue(response.body().contains("is not reachable"), response.body());
+    assertEquals(router.getSlots().get(0).getActiveSessions(), 0);
+  }
+
+  @Test
+  public void testUnreachableSlotFailsCommandAndDeleteReleasesSlot() throws Exception {
+    router = SessionRouter.start(0, Duration.ofSeconds(5), Duration.ZERO);
+    router.addSlot(startSlot(), 1);
+    String sessionId = newSession();
+    slots.get(0).stop(0);
+    HttpResponse<String> response = send("GET", "/session/" + sessionId + "/url", null);
+    assertEquals(response.statusCode(), 500);
+    assertTrue(response.body().contains("\"unknown error\""), response.body());
+    assertEquals(send("DELETE", "/session/" + sessionId, null).statusCode(), 500);
+    assertEquals(router.getSlots().get(0).getActiveSessions(), 0);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Login preflight against a local server that answers like a Salesforce login page
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class LoginHealthProbeTest {
+
+  private static final String PASSWORD = "secret";
+  // frontdoor page sets the session and leads to the landing page with JavaScript
+  private static final String FRONTDOOR_PAGE =
+      "<script>window.location.href='/lightning/page/home';</script>";
+
+  private HttpServer server;
+  private URI loginUri;
+
+  @BeforeMethod
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          String body =
+              new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+          if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 200, "<form>login</form>");
+          } else if (body.contains("pw=" + PASSWORD)) {
+            exchange.getResponseHeaders().add("Location", "/secur/frontdoor.jsp");
+            respond(exchange, 302, "");
+          } else if (body.contains("pw=redirect")) {
+            exchange.getResponseHeaders().add("Location", "/lightning/page/home");
+            respond(exchange, 302, "");
+          } else if (body.contains("pw=elsewhere")) {
+            exchange.getResponseHeaders().add("Location", "/setup/secur/RemoteAccessError");
+            respond(exchange, 302, "");
+          } else {
+            respond(exchange, 200, "<form>Please check your username and password</form>");
+          }
+        });
+    server.createContext(
+        "/secur/frontdoor.jsp",
+        exchange -> {
+          exchange.getResponseHeaders().add("Set-Cookie", "sid=00D000000000001; Path=/");
+          respond(exchange, 200, FRONTDOOR_PAGE);
+        });
+    server.createContext("/lightning/page/home", exchange -> respond(exchange, 200, "home"));
+    server.createContext(
+        "/setup/secur/RemoteAccessError", exchange -> respond(exchange, 200, "error"));
+    server.start();
+    loginUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+  }
+
+  @AfterMethod
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+
+  private String check(String password) {
+    return new LoginHealthProbe(Duration.ofSeconds(5))
+        .check(loginUri, "user@example.com", password, "home")
+        .join();
+  }
+
+  @Test
+  public void testFrontdoorWithSessionCookieIsHealthy() {
+    assertNull(check(PASSWORD));
+  }
+
+  @Test
+  public void testRedirectToLandingPageIsHealthy() {
+    assertNull(check("redirect"));
+  }
+
+  @Test
+  public void testWrongPasswordFails() {
+    assertEquals(
+        check("wrong"),
+        String.format("Login to %s with provided credentials failed, status 200", loginUri));
+  }
+
+  @Test
+  public void testRedirectWithoutSessionFails() {
+    String failure = check("elsewhere");
+    assertTrue(
+        failure.startsWith("After login redirects did not lead to 'home' and no session"),
+        failure);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.salesforce;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+/**
+ * Scan of a record layout with a driver that answers with fixed fields, no browser is needed
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class RecordLayoutScanTest {
+
+  private final List<Object[]> arguments = new ArrayList<>();
+
+  private JavascriptExecutor executor() {
+    List<List<Object>> fields =
+        Arrays.asList(
+            Arrays.asList(1L, 1L, 1L, "Account Owner"),
+            Arrays.asList(1L, 2L, 1L, "Account Name"),
+            Arrays.asList(1L, 2L, 2L, ""));
+    return (JavascriptExecutor)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {JavascriptExecutor.class},
+            (proxy, method, args) -> {
+              if (!"executeScript".equals(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+              }
+              arguments.add((Object[]) args[1]);
+              return fields;
+            });
+  }
+
+  private static WebElement layoutRoot() {
+    return (WebElement)
+        Proxy.newProxyInstance(
+            RecordLayoutScanTest.class.getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+              throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  @Test
+  public void testScanIsScopedToLayoutRoot() {
+    arguments.clear();
+    WebElement root = layoutRoot();
+    RecordLayoutScan scan = RecordLayoutScan.scan(executor(), root);
+    assertEquals(arguments.size(), 1);
+    assertSame(arguments.get(0)[0], root);
+    assertEquals(scan.getFields().size(), 3);
+  }
+
+  @Test
+  public void testScanWithoutRootLooksForLastLayout() {
+    arguments.clear();
+    RecordLayoutScan.scan(executor());
+    assertEquals(arguments.get(0)[0], RecordLayoutScan.DEFAULT_SCOPE);
+  }
+
+  @Test
+  public void testFieldsByLabelAndPosition() {
+    RecordLayoutScan scan = RecordLayoutScan.scan(executor(), layoutRoot());
+    RecordLayoutField field = scan.getByLabel(" account name ");
+    assertEquals(field.toString(), "(1,2,1) 'Account Name'");
+    assertSame(scan.getByPosition(1, 2, 1), field);
+    assertNull(scan.getByLabel(""));
+    assertNull(scan.getByLabel("Phone"));
+  }
+}
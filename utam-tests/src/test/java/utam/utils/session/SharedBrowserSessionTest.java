@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.utils.session;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.testng.annotations.Test;
+
+/**
+ * Windows of a shared browser with a fake browser that keeps window handles and the current
+ * window, no browser is needed
+ *
+ * @author salesforce
+ * @since Oct 2026
+ */
+public class SharedBrowserSessionTest {
+
+  private static final int NO_SUCH_WINDOW = 23;
+
+  /** browser with windows "w1", "w2", ... that records commands */
+  private static class FakeBrowser implements CommandExecutor {
+
+    private final List<String> windows = new ArrayList<>();
+    private final List<String> commands = new ArrayList<>();
+    private String current = "w1";
+    private int opened = 1;
+
+    FakeBrowser() {
+      windows.add(current);
+    }
+
+    @Override
+    public Response execute(Command command) {
+      String name = command.getName();
+      Object handle = command.getParameters().get("handle");
+      Object url = command.getParameters().get("url");
+      commands.add(name + (handle == null ? "" : " " + handle) + (url == null ? "" : " " + url));
+      switch (name) {
+        case DriverCommand.NEW_SESSION:
+          Response session = response(0, Map.of(CapabilityType.SUPPORTS_JAVASCRIPT, true));
+          session.setSessionId("shared");
+          return session;
+        case DriverCommand.GET_CURRENT_WINDOW_HANDLE:
+          return current == null ? response(NO_SUCH_WINDOW, null) : response(0, current);
+        case DriverCommand.GET_WINDOW_HANDLES:
+          return response(0, new ArrayList<>(windows));
+        case DriverCommand.EXECUTE_SCRIPT:
+          // window.open, new window does not become current
+          windows.add("w" + ++opened);
+          return response(0, null);
+        case DriverCommand.SWITCH_TO_WINDOW:
+          if (!windows.contains(handle)) {
+            return response(NO_SUCH_WINDOW, null);
+          }
+          current = (String) handle;
+          return response(0, null);
+        case DriverCommand.CLOSE:
+          windows.remove(current);
+          current = null;
+          return response(0, null);
+        default:
+          return response(0, null);
+      }
+    }
+
+    private static Response response(int status, Object value) {
+      Response response = new Response();
+      response.setStatus(status);
+      response.setValue(value);
+      return response;
+    }
+  }
+
+  private static class Browser extends RemoteWebDriver {
+
+    Browser(CommandExecutor executor) {
+      super();
+      setCommandExecutor(executor);
+      startSession(new DesiredCapabilities());
+    }
+  }
+
+  private static SharedBrowserSession session(FakeBrowser fake) {
+    SharedBrowserSession session = new SharedBrowserSession(new Browser(fake));
+    fake.commands.clear();
+    return session;
+  }
+
+  @Test
+  public void testCommandReturnsToBoundWindowAfterSwitch() {
+    FakeBrowser fake = new FakeBrowser();
+    SharedBrowserSession session = session(fake);
+    WindowBoundDriver first = session.openWindow();
+    WindowBoundDriver second = session.openWindow();
+    assertEquals(second.getBoundWindow(), "w2");
+
+    // test of the first window switches to the second one
+    first.switchTo().window("w2");
+    fake.commands.clear();
+    first.getTitle();
+    assertEquals(
+        fake.commands,
+        List.of(DriverCommand.SWITCH_TO_WINDOW + " w1", DriverCommand.GET_TITLE));
+  }
+
+  @Test
+  public void testClosedWindowIsNotReused() {
+    FakeBrowser fake = new FakeBrowser();
+    SharedBrowserSession session = session(fake);
+    WindowBoundDriver first = session.openWindow();
+    session.openWindow();
+    first.close();
+    assertEquals(session.getActiveWindowsCount(), 1);
+
+    fake.commands.clear();
+    first.quit();
+    // nothing to blank, closed window is not released to the pool
+    assertTrue(fake.commands.isEmpty(), fake.commands.toString());
+    assertEquals(session.openWindow().getBoundWindow(), "w3");
+  }
+
+  @Test
+  public void testQuitBlanksAndReleasesWindow() {
+    FakeBrowser fake = new FakeBrowser();
+    SharedBrowserSession session = session(fake);
+    WindowBoundDriver first = session.openWindow();
+    first.quit();
+    assertEquals(session.getActiveWindowsCount(), 0);
+    assertEquals(fake.commands, List.of(DriverCommand.GET + " about:blank"));
+    assertFalse(fake.windows.size() > 1);
+    assertEquals(session.openWindow().getBoundWindow(), "w1");
+  }
+}
@@ -0,0 +1 @@
+var ROOT_SELECTOR = null;var args = arguments;var root = args[0];if (!root && ROOT_SELECTOR) { root = document.querySelector(ROOT_SELECTOR); }if (!root) { throw new Error('utam-bundle: root element not found'); }function resolve(path, all, nullable) {  var scope = root;  for (var i = 0; i < path.length; i++) {    var container = path[i].shadow ? scope.shadowRoot : scope;    if (!container) { scope = null; break; }    if (all && i === path.length - 1) {      return Array.prototype.slice.call(container.querySelectorAll(path[i].css));    }    scope = container.querySelector(path[i].css);    if (!scope) { break; }  }  if (!scope && !nullable) {    throw new Error('utam-bundle: element not found ' + JSON.stringify(path));  }  return scope;}var result = null;result = (function(e) { return e == null ? null : (e.innerText || '').trim(); })(resolve([{css:'div.slds-card__body pre',shadow:true}], false, false));return result;
\ No newline at end of file
@@ -0,0 +1 @@
+return document.querySelector('.bar[style*="width: 100%"]').textContent;